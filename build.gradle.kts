@@ -23,6 +23,7 @@ plugins {
     `creek-sonatype-publishing-convention`
     id("com.gradle.plugin-publish")
     id("pl.allegro.tech.build.axion-release") version "1.21.2" // https://plugins.gradle.org/plugin/pl.allegro.tech.build.axion-release
+    id("me.champeau.jmh") version "0.7.3"                       // https://plugins.gradle.org/plugin/me.champeau.jmh
 }
 
 scmVersion {
@@ -50,6 +51,9 @@ dependencies {
     implementation("com.github.spotbugs:spotbugs-annotations:$spotBugsVersion")
     // Avoid non-test dependencies in plugins.
 
+    jmh(gradleApi())
+    jmh("com.github.spotbugs:spotbugs-annotations:$spotBugsVersion")
+
     testImplementation("org.creekservice:creek-test-hamcrest:$creekVersion")
     testImplementation("org.creekservice:creek-test-util:$creekVersion")
     testImplementation("org.creekservice:creek-test-conformity:$creekVersion")
@@ -64,6 +68,56 @@ dependencies {
     testRuntimeOnly("org.creekservice:creek-system-test-executor:$creekVersion")
 }
 
+// Benchmarks of the plugin's file-system hot paths, run with `./gradlew jmh`.
+// Pass `-PjmhIncludes=<regex>` to run a subset of the benchmarks.
+jmh {
+    jmhVersion.set("1.37")
+    fork.set(1)
+    warmupIterations.set(3)
+    iterations.set(5)
+    resultFormat.set("JSON")
+    providers.gradleProperty("jmhIncludes").orNull?.let { includes.add(it) }
+}
+
+// Configuration-time performance regression suite, run with `./gradlew perfTest`.
+// Pass `-PupdatePerfBaseline` to record the results as the new baseline,
+// `check` runs the suite with builds of 1 and 100 projects;
+// pass `-PperfProjectCounts=1,100,1000` to also measure the largest builds.
+testing {
+    suites {
+        register<JvmTestSuite>("perfTest") {
+            useJUnitJupiter(junitVersion)
+
+            dependencies {
+                implementation(gradleTestKit())
+                implementation("org.creekservice:creek-test-hamcrest:$creekVersion")
+                implementation("org.junit.jupiter:junit-jupiter-params:$junitVersion")
+            }
+
+            targets.all {
+                testTask.configure {
+                    shouldRunAfter(tasks.test)
+                    outputs.upToDateWhen { false }
+
+                    systemProperty("perf.baselineFile", file("src/perfTest/resources/configuration-baseline.properties").absolutePath)
+                    systemProperty("perf.resultsFile", layout.buildDirectory.file("reports/perf/configuration-results.properties").get().asFile.absolutePath)
+                    systemProperty("perf.initScript", file("src/test/resources/projects/functional/init.gradle").absolutePath)
+                    systemProperty("perf.updateBaseline", providers.gradleProperty("updatePerfBaseline").isPresent)
+                    systemProperty("perf.projectCounts", providers.gradleProperty("perfProjectCounts").getOrElse("1,100"))
+
+                    testLogging {
+                        showStandardStreams = true
+                    }
+                }
+            }
+        }
+    }
+}
+
+tasks.check {
+    dependsOn(testing.suites.named("perfTest"))
+}
+
 gradlePlugin {
     plugins {
         register("CreekPlugin") {
@@ -74,6 +128,7 @@ gradlePlugin {
             tags.set(listOf("creek", "creekservice", "microservice", "docker", "containers", "blackbox", "testing", "test", "integration-test", "test automation"))
         }
     }
+    testSourceSets(sourceSets.test.get(), sourceSets["perfTest"])
 }
 
 tasks.register("writeVersionFile") {
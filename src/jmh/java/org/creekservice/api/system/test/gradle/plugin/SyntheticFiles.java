@@ -0,0 +1,161 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.system.test.gradle.plugin;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+import org.gradle.api.Project;
+import org.gradle.testfixtures.ProjectBuilder;
+
+/** Generates the synthetic files and directories the benchmarks run against. */
+public final class SyntheticFiles {
+
+    private static final int SHARDS = 10;
+    private static final byte[] EXEC_DATA = execData();
+
+    private SyntheticFiles() {}
+
+    /**
+     * @param prefix the directory name prefix.
+     * @return a new temporary directory.
+     */
+    public static Path tempDir(final String prefix) {
+        try {
+            return Files.createTempDirectory("creek-jmh-" + prefix);
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Create a Gradle project for benchmarks that need Gradle types.
+     *
+     * @param dir the project directory.
+     * @return the project.
+     */
+    public static Project project(final Path dir) {
+        return ProjectBuilder.builder().withProjectDir(dir.toFile()).build();
+    }
+
+    /**
+     * Write JaCoCo execution data files, spread across shard subdirectories.
+     *
+     * @param dir the directory to write to.
+     * @param count the number of files.
+     * @return the files written.
+     */
+    public static List<Path> execFiles(final Path dir, final int count) {
+        final List<Path> files = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            files.add(
+                    write(
+                            dir.resolve("shard-" + (i % SHARDS)).resolve("service-" + i + ".exec"),
+                            EXEC_DATA));
+        }
+        return files;
+    }
+
+    /**
+     * Write JUnit XML result files, each holding a suite with a passed, failed and skipped case.
+     *
+     * @param dir the directory to write to.
+     * @param count the number of files.
+     */
+    public static void resultFiles(final Path dir, final int count) {
+        for (int i = 0; i < count; i++) {
+            final String xml =
+                    "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n"
+                            + "<testsuite name=\"suite-"
+                            + i
+                            + "\" tests=\"3\" failures=\"1\" errors=\"0\" skipped=\"1\""
+                            + " time=\"1.5\">\n"
+                            + "  <testcase name=\"passes\" time=\"0.5\"/>\n"
+                            + "  <testcase name=\"fails\" time=\"1.0\">\n"
+                            + "    <failure message=\"expected\">details</failure>\n"
+                            + "  </testcase>\n"
+                            + "  <testcase name=\"skips\" time=\"0\"><skipped/></testcase>\n"
+                            + "</testsuite>\n";
+            write(
+                    dir.resolve("shard-" + (i % SHARDS)).resolve("TEST-suite-" + i + ".xml"),
+                    xml.getBytes(UTF_8));
+        }
+    }
+
+    /**
+     * Write files into a single directory, every other one a jar.
+     *
+     * @param dir the directory to write to.
+     * @param prefix the file name prefix.
+     * @param count the number of files.
+     */
+    public static void jarsAndOtherFiles(final Path dir, final String prefix, final int count) {
+        for (int i = 0; i < count; i++) {
+            write(dir.resolve(prefix + i + (i % 2 == 0 ? ".jar" : ".txt")), new byte[] {0});
+        }
+    }
+
+    /**
+     * Write a file, creating any parent directories.
+     *
+     * @param file the file to write.
+     * @param content the content to write.
+     * @return the file.
+     */
+    public static Path write(final Path file, final byte[] content) {
+        try {
+            Files.createDirectories(file.getParent());
+            return Files.write(file, content);
+        } catch (final IOException e) {
+            throw new UncheckedIOException("Failed to write " + file, e);
+        }
+    }
+
+    /**
+     * Delete a directory and everything in it, if it exists.
+     *
+     * @param dir the directory to delete.
+     */
+    public static void delete(final Path dir) {
+        if (!Files.exists(dir)) {
+            return;
+        }
+
+        try (Stream<Path> paths = Files.walk(dir)) {
+            for (final Path path : paths.sorted(Comparator.reverseOrder()).toArray(Path[]::new)) {
+                Files.delete(path);
+            }
+        } catch (final IOException e) {
+            throw new UncheckedIOException("Failed to delete " + dir, e);
+        }
+    }
+
+    private static byte[] execData() {
+        final byte[] data = new byte[256];
+        data[0] = 0x01;
+        data[1] = (byte) 0xC0;
+        data[2] = (byte) 0xC0;
+        return data;
+    }
+}
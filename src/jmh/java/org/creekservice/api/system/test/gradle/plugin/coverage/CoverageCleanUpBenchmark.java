@@ -0,0 +1,90 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.system.test.gradle.plugin.coverage;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import org.creekservice.api.system.test.gradle.plugin.SyntheticFiles;
+import org.creekservice.api.system.test.gradle.plugin.SystemTestPlugin;
+import org.creekservice.api.system.test.gradle.plugin.test.SystemTest;
+import org.gradle.api.Project;
+import org.gradle.testing.jacoco.plugins.JacocoPlugin;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark of {@link SystemTestCoverageExtension#cleanUp()}, which deletes the previous run's
+ * coverage data before each system test run.
+ */
+@SuppressFBWarnings(
+        value = "PA_PUBLIC_PRIMITIVE_ATTRIBUTE",
+        justification = "JMH injects parameter values into public fields")
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 20)
+public class CoverageCleanUpBenchmark {
+
+    @Param({"1000", "5000"})
+    public int fileCount;
+
+    private Path root;
+    private Path resultMountDir;
+    private SystemTestCoverageExtension extension;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        root = SyntheticFiles.tempDir("coverage-clean-up");
+        final Project project = SyntheticFiles.project(root);
+        project.getPluginManager().apply(JacocoPlugin.class);
+        project.getPluginManager().apply(SystemTestPlugin.class);
+        extension =
+                project.getTasks()
+                        .named(SystemTestPlugin.SYSTEM_TEST_TASK_NAME, SystemTest.class)
+                        .get()
+                        .getExtensions()
+                        .getByType(SystemTestCoverageExtension.class);
+        resultMountDir = extension.getResultMountDirectory().getAsFile().get().toPath();
+    }
+
+    @Setup(Level.Iteration)
+    public void populateResultMount() {
+        SyntheticFiles.execFiles(resultMountDir, fileCount);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        SyntheticFiles.delete(root);
+    }
+
+    @Benchmark
+    public void cleanUp() {
+        extension.cleanUp();
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.system.test.gradle.plugin.coverage;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.creekservice.api.system.test.gradle.plugin.SyntheticFiles;
+import org.gradle.api.file.Directory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/** Benchmarks of the coverage file handling that runs on every system test run. */
+@SuppressFBWarnings(
+        value = "PA_PUBLIC_PRIMITIVE_ATTRIBUTE",
+        justification = "JMH injects parameter values into public fields")
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class CoverageFileBenchmarks {
+
+    @Param({"1000", "5000"})
+    public int fileCount;
+
+    private Path root;
+    private List<Path> execFiles;
+    private Path mergedFile;
+    private Directory agentDir;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        root = SyntheticFiles.tempDir("coverage");
+        execFiles = SyntheticFiles.execFiles(root.resolve("exec"), fileCount);
+        mergedFile = root.resolve("merged/systemTest.exec");
+        agentDir =
+                SyntheticFiles.project(root.resolve("project"))
+                        .getLayout()
+                        .getProjectDirectory()
+                        .dir("jacoco");
+        SyntheticFiles.write(
+                agentDir.getAsFile().toPath().resolve("jacocoagent.jar"), new byte[] {0});
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        SyntheticFiles.delete(root);
+    }
+
+    @Benchmark
+    public int mergeExecutionData() {
+        return ExecutionDataFiles.merge(execFiles, mergedFile);
+    }
+
+    @Benchmark
+    public Optional<Path> agentJarFileName() {
+        return PrepareCoverage.agentJarFileName(agentDir);
+    }
+}
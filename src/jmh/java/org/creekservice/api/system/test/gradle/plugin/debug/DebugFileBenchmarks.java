@@ -0,0 +1,89 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.system.test.gradle.plugin.debug;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.creekservice.api.system.test.gradle.plugin.SyntheticFiles;
+import org.gradle.api.Project;
+import org.gradle.api.file.RegularFile;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/** Benchmarks of the debug agent lookups. */
+@SuppressFBWarnings(
+        value = "PA_PUBLIC_PRIMITIVE_ATTRIBUTE",
+        justification = "JMH injects parameter values into public fields")
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class DebugFileBenchmarks {
+
+    @Param({"1000", "5000"})
+    public int fileCount;
+
+    private Path root;
+    private Path attachMeDir;
+    private PrepareDebug task;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        root = SyntheticFiles.tempDir("debug");
+        attachMeDir = root.resolve("attachme");
+        SyntheticFiles.jarsAndOtherFiles(attachMeDir, "attachme-agent-1.", fileCount);
+        final Project project = SyntheticFiles.project(root.resolve("project"));
+        task = project.getTasks().register("prepareDebug", PrepareDebug.class, project).get();
+        task.getAttachMeDirectory().set(attachMeDir.toFile());
+        SyntheticFiles.write(
+                task.getMountDirectory()
+                        .get()
+                        .getAsFile()
+                        .toPath()
+                        .resolve("attachme-agent-1.2.3.jar"),
+                new byte[] {0});
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        SyntheticFiles.delete(root);
+    }
+
+    @Benchmark
+    public Optional<Path> findAttachMeAgentJar() {
+        return AttachMeAgentJarFinder.findAttacheMeAgentJar(attachMeDir);
+    }
+
+    @Benchmark
+    public RegularFile agentJar() {
+        return task.getAgentJar().getOrNull();
+    }
+
+    @Benchmark
+    public RegularFile mountedAgentJar() {
+        return task.getMountedAgentJar().getOrNull();
+    }
+}
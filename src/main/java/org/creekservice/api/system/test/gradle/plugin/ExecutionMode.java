@@ -0,0 +1,41 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.system.test.gradle.plugin;
+
+/** How the system test executor is run. */
+public enum ExecutionMode {
+
+    /** Fork a new executor JVM for each run. */
+    FORK,
+
+    /**
+     * Run in a warm executor JVM, started ahead of time and kept between builds.
+     *
+     * <p>The executor's startup cost is paid while the previous run is in progress, or while the
+     * developer is editing suites. Idle daemons shut down after the daemon idle timeout.
+     */
+    DAEMON,
+
+    /**
+     * Run as a unit of work in a Gradle worker daemon, using the Worker API's process isolation.
+     *
+     * <p>Each run gets a fresh worker, as the executor can not safely run twice in one JVM. Gradle
+     * limits concurrent executors to the build's maximum number of workers, and schedules the
+     * executors of several system test tasks alongside each other.
+     */
+    WORKER
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.creekservice.api.system.test.gradle.plugin;
+
+import java.util.List;
+import org.gradle.api.provider.ListProperty;
+import org.gradle.api.provider.Property;
+
+/**
+ * Extension for configuring the JVM the system test executor runs in.
+ *
+ * <p>The executor JVM is configured independently of the Gradle daemon, whose {@code
+ * org.gradle.jvmargs} are not passed on to the executor.
+ */
+public abstract class ExecutorJvmExtension {
+
+    /**
+     * The maximum heap size of the executor JVM, in the format of the JVM's {@code -Xmx} option.
+     *
+     * @return the maximum heap size, e.g. {@code 256m}. Default: none, i.e. the JVM's default.
+     */
+    public abstract Property<String> getMaxHeap();
+
+    /**
+     * Preset garbage collector and startup tuning of the executor JVM.
+     *
+     * @return the profile. Default: {@link GcProfile#LOW_MEMORY}.
+     */
+    public abstract Property<GcProfile> getGcProfile();
+
+    /**
+     * Additional JVM arguments of the executor.
+     *
+     * <p>These are passed after those of the {@link #getGcProfile() profile} and {@link
+     * #getMaxHeap() maximum heap size}, so can override them.
+     *
+     * @return the additional JVM arguments. Default: none.
+     */
+    public abstract ListProperty<String> getJvmArgs();
+
+    /**
+     * Whether the executor uses an AppCDS class data sharing archive.
+     *
+     * <p>When enabled, the {@code systemTestExecutorCds} task creates an archive of the classes
+     * the executor loads at startup, which later executor launches map rather than load from jars.
+     * The archive is recreated when the executor class path changes.
+     *
+     * @return whether to use class data sharing. Default: false.
+     */
+    public abstract Property<Boolean> getClassDataSharing();
+
+    /**
+     * Whether the executor is launched from a pathing jar.
+     *
+     * <p>When enabled, the {@code systemTestLauncherJar} task writes a jar whose manifest {@code
+     * Class-Path} lists the executor's class path, and the executor is launched with only that jar
+     * on its class path. This keeps the command line short when there are many components.
+     *
+     * @return whether to use a pathing jar. Default: false.
+     */
+    public abstract Property<Boolean> getPathingJar();
+
+    /**
+     * Set additional JVM arguments of the executor.
+     *
+     * @param args the JVM arguments.
+     */
+    @SuppressWarnings("unused") // Invoked from Gradle
+    public void jvmArgs(final String... args) {
+        getJvmArgs().set(List.of(args));
+    }
+}
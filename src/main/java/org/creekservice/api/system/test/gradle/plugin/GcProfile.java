@@ -0,0 +1,59 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.creekservice.api.system.test.gradle.plugin;
+
+import java.util.List;
+
+/**
+ * Preset JVM tuning for the system test executor.
+ *
+ * <p>The executor mostly orchestrates Docker containers and waits on them, so needs little heap and
+ * gains nothing from a throughput-oriented garbage collector.
+ */
+public enum GcProfile {
+
+    /** No tuning: the JVM's own ergonomics choose the collector and heap sizing. */
+    DEFAULT(List.of()),
+
+    /**
+     * Keep the executor's memory footprint small.
+     *
+     * <p>Uses the serial collector, and returns unused heap to the OS promptly, so that idle
+     * executors, e.g. parallel shards or warm daemons, do not hold on to memory they do not need.
+     */
+    LOW_MEMORY(List.of("-XX:+UseSerialGC", "-XX:MinHeapFreeRatio=10", "-XX:MaxHeapFreeRatio=30")),
+
+    /**
+     * Minimise the executor's startup time.
+     *
+     * <p>Uses the serial collector, limits JIT compilation to the C1 compiler and uses the JDK's
+     * class data sharing archive, where available. Suited to short runs of few suites.
+     */
+    FAST_STARTUP(List.of("-XX:+UseSerialGC", "-XX:TieredStopAtLevel=1", "-Xshare:auto"));
+
+    private final List<String> jvmArgs;
+
+    GcProfile(final List<String> jvmArgs) {
+        this.jvmArgs = jvmArgs;
+    }
+
+    /**
+     * @return the JVM arguments of the profile.
+     */
+    public List<String> jvmArgs() {
+        return jvmArgs;
+    }
+}
@@ -0,0 +1,44 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.system.test.gradle.plugin;
+
+import org.gradle.api.provider.Property;
+
+/** Extension for configuring the retrying of failed suites. */
+public abstract class RetryExtension {
+
+    /** The default maximum number of suite failures, across all attempts, before giving up. */
+    public static final int DEFAULT_MAX_FAILURES = 5;
+
+    /**
+     * The maximum number of times to retry failed suites.
+     *
+     * <p>Failed suites are re-run in a fresh executor, up to this many times, until they pass.
+     *
+     * @return the maximum number of retries. Default: 0, i.e. no retries.
+     */
+    public abstract Property<Integer> getMaxRetries();
+
+    /**
+     * The maximum number of suite failures, across all attempts, before retrying stops.
+     *
+     * <p>Many failures point to a real problem rather than flaky suites, so are not retried.
+     *
+     * @return the maximum number of failures. Default: {@link #DEFAULT_MAX_FAILURES}.
+     */
+    public abstract Property<Integer> getMaxFailures();
+}
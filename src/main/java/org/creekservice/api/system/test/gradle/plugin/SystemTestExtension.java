@@ -29,6 +29,8 @@ import org.gradle.api.provider.Property;
 public abstract class SystemTestExtension {
 
     private final DebugExtension debugExt;
+    private final RetryExtension retryExt;
+    private final ExecutorJvmExtension executorJvmExt;
 
     /**
      * @param objectFactory the @{link ObjectFactory} to use.
@@ -38,6 +40,14 @@ public abstract class SystemTestExtension {
         this.debugExt = objectFactory.newInstance(DebugExtension.class);
         debugExt.getAttachMePort().convention(DebugExtension.DEFAULT_ATTACH_ME_PORT);
         debugExt.getBaseServicePort().convention(DebugExtension.DEFAULT_BASE_DEBUG_PORT);
+        this.retryExt = objectFactory.newInstance(RetryExtension.class);
+        retryExt.getMaxRetries().convention(0);
+        retryExt.getMaxFailures().convention(RetryExtension.DEFAULT_MAX_FAILURES);
+        this.executorJvmExt = objectFactory.newInstance(ExecutorJvmExtension.class);
+        executorJvmExt.getGcProfile().convention(GcProfile.LOW_MEMORY);
+        executorJvmExt.getJvmArgs().convention(List.of());
+        executorJvmExt.getClassDataSharing().convention(false);
+        executorJvmExt.getPathingJar().convention(false);
     }
 
     /**
@@ -73,6 +83,39 @@ public abstract class SystemTestExtension {
      */
     public abstract Property<String> getSuitePathPattern();
 
+    /**
+     * The maximum number of test executors to run in parallel.
+     *
+     * <p>When set above one, the suites to run are split into shards, each of which is run by its
+     * own executor. Results from all shards are merged into the {@link #getResultDirectory() result
+     * directory}.
+     *
+     * @return the maximum number of executors to run in parallel. Default: 1.
+     */
+    public abstract Property<Integer> getMaxParallelShards();
+
+    /**
+     * Whether to only run suites that have changed, or did not pass, since they were last run.
+     *
+     * <p>A suite is considered changed if any file in its test package, or on the class path of
+     * the executor, its extensions or the components under test, has changed. Earlier results of
+     * unchanged suites are kept in the {@link #getResultDirectory() result directory}.
+     *
+     * @return whether to run incrementally. Default: false.
+     */
+    public abstract Property<Boolean> getIncremental();
+
+    /**
+     * Whether to stop running suites as soon as any suite fails.
+     *
+     * <p>The executor's results are watched as it runs. Once a suite fails, the executor, and the
+     * executors of any parallel shards, are stopped. Results of the suites that completed are left
+     * in the {@link #getResultDirectory() result directory}.
+     *
+     * @return whether to fail fast. Default: false.
+     */
+    public abstract Property<Boolean> getFailFast();
+
     /**
      * @return list of additional arguments to pass to the test executor
      *     <p>See <a
@@ -95,6 +138,63 @@ public abstract class SystemTestExtension {
         getExtraArguments().set(List.of(args));
     }
 
+    /**
+     * How the system test executor is run.
+     *
+     * <p>{@link ExecutionMode#DAEMON} runs the executor in a warm JVM started ahead of time, saving
+     * the executor's startup cost on each run.
+     * {@link ExecutionMode#WORKER} runs the executor in a fresh Gradle worker, which Gradle
+     * schedules alongside other work.
+     *
+     * @return the execution mode. Default: {@link ExecutionMode#FORK}.
+     */
+    public abstract Property<ExecutionMode> getExecutionMode();
+
+    /**
+     * @return how long an unused executor daemon waits for a run before shutting down. Default: 30
+     *     minutes.
+     */
+    public abstract Property<Duration> getDaemonIdleTimeout();
+
+    /**
+     * The environment variables passed to executor daemons.
+     *
+     * <p>A daemon is started with only these variables, and daemons started with different values
+     * are not reused. Entries ending in {@code *} match any variable with that prefix. Names are
+     * matched ignoring case.
+     *
+     * @return the names of the variables. Default: {@code PATH}, {@code HOME}, {@code USER}, {@code
+     *     LANG}, {@code LC_*}, {@code TMPDIR}, {@code TEMP}, {@code TMP}, {@code SYSTEMROOT}, {@code
+     *     DOCKER_*}, {@code TESTCONTAINERS_*} and {@code CREEK_*}.
+     */
+    public abstract ListProperty<String> getDaemonEnvironment();
+
+    /**
+     * The Docker images of the services under test.
+     *
+     * <p>The IDs of these images, as reported by the local Docker daemon, are inputs of the system
+     * test task. Tests re-run when an image changes, but not when an identical image is rebuilt.
+     *
+     * @return the names of the service images, e.g. {@code my-service:latest}. Default: none.
+     */
+    public abstract ListProperty<String> getServiceImages();
+
+    /**
+     * Set the Docker images of the services under test.
+     *
+     * @param images the image names.
+     */
+    @SuppressWarnings("unused") // Invoked from Gradle
+    public void serviceImages(final String... images) {
+        getServiceImages().set(List.of(images));
+    }
+
+    /**
+     * @return the Docker executable used to resolve {@link #getServiceImages() service image} IDs.
+     *     Default: {@code docker}.
+     */
+    public abstract Property<String> getDockerExecutable();
+
     /**
      * @return the debugging extension *
      */
@@ -112,6 +212,40 @@ public abstract class SystemTestExtension {
         action.execute(debugExt);
     }
 
+    /**
+     * @return the retry extension
+     */
+    public RetryExtension getRetry() {
+        return retryExt;
+    }
+
+    /**
+     * Configure retry extension
+     *
+     * @param action the action to perform on the retry ext.
+     */
+    @SuppressWarnings("unused") // Invoked from Gradle
+    public void retry(final Action<RetryExtension> action) {
+        action.execute(retryExt);
+    }
+
+    /**
+     * @return the executor JVM extension
+     */
+    public ExecutorJvmExtension getExecutorJvm() {
+        return executorJvmExt;
+    }
+
+    /**
+     * Configure executor JVM extension
+     *
+     * @param action the action to perform on the executor JVM ext.
+     */
+    @SuppressWarnings("unused") // Invoked from Gradle
+    public void executorJvm(final Action<ExecutorJvmExtension> action) {
+        action.execute(executorJvmExt);
+    }
+
     // Avoid finalizer attacks: spotbugs CT_CONSTRUCTOR_THROW
     @SuppressWarnings("deprecation")
     @Override
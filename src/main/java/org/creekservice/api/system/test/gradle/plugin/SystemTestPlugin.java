@@ -18,19 +18,34 @@ package org.creekservice.api.system.test.gradle.plugin;
 
 import static org.creekservice.api.system.test.gradle.plugin.ExecutorVersion.defaultExecutorVersion;
 
+import java.io.File;
 import java.time.Duration;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.creekservice.api.system.test.gradle.plugin.cds.ExecutorCds;
 import org.creekservice.api.system.test.gradle.plugin.coverage.PrepareCoverage;
+import org.creekservice.api.system.test.gradle.plugin.daemon.ExecutorDaemons;
 import org.creekservice.api.system.test.gradle.plugin.debug.PrepareDebug;
+import org.creekservice.api.system.test.gradle.plugin.launcher.LauncherJar;
+import org.creekservice.api.system.test.gradle.plugin.test.MergeResults;
+import org.creekservice.api.system.test.gradle.plugin.test.ServiceImageIds;
 import org.creekservice.api.system.test.gradle.plugin.test.SystemTest;
 import org.gradle.api.Plugin;
 import org.gradle.api.Project;
 import org.gradle.api.artifacts.Configuration;
 import org.gradle.api.artifacts.dsl.DependencyHandler;
+import org.gradle.api.attributes.Category;
+import org.gradle.api.attributes.Usage;
 import org.gradle.api.file.ConfigurableFileTree;
+import org.gradle.api.file.ProjectLayout;
+import org.gradle.api.file.RegularFile;
+import org.gradle.api.model.ObjectFactory;
 import org.gradle.api.plugins.BasePlugin;
 import org.gradle.api.plugins.ExtensionAware;
 import org.gradle.api.plugins.ExtensionContainer;
+import org.gradle.api.provider.Provider;
+import org.gradle.api.tasks.TaskProvider;
 import org.gradle.language.base.plugins.LifecycleBasePlugin;
 import org.gradle.testing.base.plugins.TestingBasePlugin;
 import org.gradle.testing.jacoco.tasks.JacocoReport;
@@ -56,6 +71,21 @@ public final class SystemTestPlugin implements Plugin<Project> {
      */
     public static final String COMPONENT_CONFIGURATION_NAME = "systemTestComponent";
 
+    /**
+     * Name of the consumable configuration through which a project publishes its merged system test
+     * coverage data.
+     */
+    public static final String COVERAGE_ELEMENTS_CONFIGURATION_NAME = "systemTestCoverageElements";
+
+    /**
+     * Name of the dependency configuration for pulling in the system test coverage data of other
+     * projects, which is added to the execution data of the project's JaCoCo reports.
+     */
+    public static final String COVERAGE_CONFIGURATION_NAME = "systemTestCoverage";
+
+    /** The value of the {@code Usage} attribute of published system test coverage data. */
+    public static final String COVERAGE_USAGE = "creek-system-test-coverage";
+
     /** Name of the system test task */
     public static final String SYSTEM_TEST_TASK_NAME = "systemTest";
 
@@ -65,6 +95,15 @@ public final class SystemTestPlugin implements Plugin<Project> {
     /** Name of the task to prepare code coverage */
     public static final String PREPARE_COVERAGE_TASK_NAME = "systemTestPrepareCoverage";
 
+    /** Name of the task to create the executor's class data sharing archive */
+    public static final String EXECUTOR_CDS_TASK_NAME = "systemTestExecutorCds";
+
+    /** Name of the task to write the pathing jar the executor is launched from */
+    public static final String LAUNCHER_JAR_TASK_NAME = "systemTestLauncherJar";
+
+    /** Name of the task to merge system test results and coverage data */
+    public static final String MERGE_RESULTS_TASK_NAME = "systemTestMergeResults";
+
     /** Standard Creek group name. */
     public static final String GROUP_NAME = "creek";
 
@@ -81,18 +120,54 @@ public final class SystemTestPlugin implements Plugin<Project> {
     public static final String DEFAULT_RESULTS_DIR_NAME =
             TestingBasePlugin.TEST_RESULTS_DIR_NAME + "/system-test";
 
+    /** The default directory to which merged test results are written. */
+    public static final String DEFAULT_MERGED_RESULTS_DIR_NAME =
+            TestingBasePlugin.TEST_RESULTS_DIR_NAME + "/system-test-merged";
+
+    /** The default file to which merged coverage data is written. */
+    public static final String DEFAULT_MERGED_COVERAGE_FILE_NAME = "creek/coverage/systemTest.exec";
+
     /** The default expectation timeout. */
     public static final Duration DEFAULT_EXPECTATION_TIMEOUT = Duration.ofMinutes(1);
 
     /** The default suite include pattern: all suites. */
     public static final String DEFAULT_SUITES_PATTERN = ".*";
 
+    /** The default time an unused executor daemon waits before shutting down. */
+    public static final Duration DEFAULT_DAEMON_IDLE_TIMEOUT = Duration.ofMinutes(30);
+
+    /** The default environment variables passed to executor daemons. */
+    public static final List<String> DEFAULT_DAEMON_ENVIRONMENT =
+            List.of(
+                    "PATH",
+                    "HOME",
+                    "USER",
+                    "LANG",
+                    "LC_*",
+                    "TMPDIR",
+                    "TEMP",
+                    "TMP",
+                    "SYSTEMROOT",
+                    "DOCKER_*",
+                    "TESTCONTAINERS_*",
+                    "CREEK_*");
+
+    /** Name of the shared build service managing executor daemons. */
+    public static final String EXECUTOR_DAEMONS_SERVICE_NAME = "creekSystemTestExecutorDaemons";
+
+    /** The default Docker executable, used to resolve the IDs of service images. */
+    public static final String DEFAULT_DOCKER_EXECUTABLE = "docker";
+
     /** Artifact group for executor */
     public static final String EXECUTOR_DEP_GROUP_NAME = "org.creekservice";
 
     /** Artifact name for executor */
     public static final String EXECUTOR_DEP_ARTEFACT_NAME = "creek-system-test-executor";
 
+    /** Main class of the executor */
+    public static final String EXECUTOR_MAIN_CLASS =
+            "org.creekservice.api.system.test.executor.SystemTestExecutor";
+
     @Override
     public void apply(final Project project) {
         project.getPluginManager().apply(BasePlugin.class);
@@ -100,11 +175,15 @@ public final class SystemTestPlugin implements Plugin<Project> {
         final SystemTestExtension extension = registerExtension(project);
         registerPrepareDebugTask(project);
         registerPrepareCoverageTask(project);
+        registerLauncherJarTask(project);
+        registerExecutorCdsTask(project);
         registerSystemTestTask(project, extension);
+        final TaskProvider<MergeResults> mergeTask = registerMergeResultsTask(project, extension);
         registerSystemTestExecutorConfiguration(project);
         registerSystemTestExtensionConfiguration(project);
         registerSystemTestComponentConfiguration(project);
-        addSystemTestCoverageToAllProjectsWithJacoco(project);
+        registerCoverageElementsConfiguration(project, mergeTask);
+        registerCoverageConfiguration(project, mergeTask);
     }
 
     private SystemTestExtension registerExtension(final Project project) {
@@ -123,11 +202,20 @@ public final class SystemTestPlugin implements Plugin<Project> {
                 .convention(String.valueOf(DEFAULT_EXPECTATION_TIMEOUT.toSeconds()));
         extension.getSuitePathPattern().convention(DEFAULT_SUITES_PATTERN);
         extension.getExtraArguments().convention(List.of());
+        extension.getMaxParallelShards().convention(1);
+        extension.getIncremental().convention(false);
+        extension.getFailFast().convention(false);
+        extension.getServiceImages().convention(List.of());
+        extension.getExecutionMode().convention(ExecutionMode.FORK);
+        extension.getDaemonIdleTimeout().convention(DEFAULT_DAEMON_IDLE_TIMEOUT);
+        extension.getDaemonEnvironment().convention(DEFAULT_DAEMON_ENVIRONMENT);
+        extension.getDockerExecutable().convention(DEFAULT_DOCKER_EXECUTABLE);
         return extension;
     }
 
     private void registerSystemTestTask(
             final Project project, final SystemTestExtension extension) {
+        final Provider<ExecutorDaemons> daemons = registerExecutorDaemons(project);
         final var taskProvider =
                 project.getTasks()
                         .register(
@@ -138,6 +226,37 @@ public final class SystemTestPlugin implements Plugin<Project> {
                                     task.getTestDirectory().set(extension.getTestDirectory());
                                     task.getResultDirectory().set(extension.getResultDirectory());
                                     task.getExtraArguments().set(extension.getExtraArguments());
+                                    task.getMaxParallelShards()
+                                            .set(extension.getMaxParallelShards());
+                                    task.getIncremental().set(extension.getIncremental());
+                                    task.getFailFast().set(extension.getFailFast());
+                                    task.getRerunFailed().convention(false);
+                                    task.getMaxRetries()
+                                            .set(extension.getRetry().getMaxRetries());
+                                    task.getMaxRetryFailures()
+                                            .set(extension.getRetry().getMaxFailures());
+                                    task.getServiceImageIds()
+                                            .set(serviceImageIds(project, extension));
+                                    task.getExecutionMode().set(extension.getExecutionMode());
+                                    task.getExecutorMaxHeap()
+                                            .set(extension.getExecutorJvm().getMaxHeap());
+                                    task.getExecutorGcProfile()
+                                            .set(extension.getExecutorJvm().getGcProfile());
+                                    task.getExecutorJvmArgs()
+                                            .set(extension.getExecutorJvm().getJvmArgs());
+                                    task.getClassDataSharing()
+                                            .set(
+                                                    extension
+                                                            .getExecutorJvm()
+                                                            .getClassDataSharing());
+                                    task.getPathingJar()
+                                            .set(extension.getExecutorJvm().getPathingJar());
+                                    task.getDaemonIdleTimeout()
+                                            .set(extension.getDaemonIdleTimeout());
+                                    task.getDaemonEnvironment()
+                                            .set(extension.getDaemonEnvironment());
+                                    task.getExecutorDaemons().set(daemons);
+                                    task.usesService(daemons);
                                     task.getVerificationTimeoutSeconds()
                                             .set(extension.getVerificationTimeoutSeconds());
                                     task.getSuitesPathPattern()
@@ -156,18 +275,117 @@ public final class SystemTestPlugin implements Plugin<Project> {
                                                             .getServiceInstanceNames());
                                 });
 
-        project.getTasksByName(LifecycleBasePlugin.CHECK_TASK_NAME, false)
-                .forEach(checkTask -> checkTask.dependsOn(taskProvider));
+        project.getTasks()
+                .named(LifecycleBasePlugin.CHECK_TASK_NAME)
+                .configure(checkTask -> checkTask.dependsOn(taskProvider));
+    }
+
+    private TaskProvider<MergeResults> registerMergeResultsTask(
+            final Project project, final SystemTestExtension extension) {
+        final ProjectLayout layout = project.getLayout();
+        final ConfigurableFileTree execDataFiles =
+                project.fileTree(
+                        layout.getBuildDirectory().dir(HOST_MOUNT_DIR + "coverage"),
+                        tree -> tree.include("**/*.exec"));
+
+        return project.getTasks()
+                .register(
+                        MERGE_RESULTS_TASK_NAME,
+                        MergeResults.class,
+                        task -> {
+                            task.getResultDirectories().from(extension.getResultDirectory());
+                            task.getExecutionData().from(execDataFiles);
+                            task.getMergedResultDirectory()
+                                    .convention(
+                                            layout.getBuildDirectory()
+                                                    .dir(DEFAULT_MERGED_RESULTS_DIR_NAME));
+                            task.getMergedExecutionData()
+                                    .convention(
+                                            layout.getBuildDirectory()
+                                                    .file(DEFAULT_MERGED_COVERAGE_FILE_NAME));
+                            task.mustRunAfter(SYSTEM_TEST_TASK_NAME);
+                        });
+    }
+
+    private static Provider<ExecutorDaemons> registerExecutorDaemons(final Project project) {
+        final File stateDir =
+                new File(project.getGradle().getGradleUserHomeDir(), "creek/system-test-daemons");
+        return project.getGradle()
+                .getSharedServices()
+                .registerIfAbsent(
+                        EXECUTOR_DAEMONS_SERVICE_NAME,
+                        ExecutorDaemons.class,
+                        spec -> spec.getParameters().getStateDirectory().set(stateDir));
+    }
+
+    private static Provider<Map<String, String>> serviceImageIds(
+            final Project project, final SystemTestExtension extension) {
+        return project.getProviders()
+                .of(
+                        ServiceImageIds.class,
+                        spec -> {
+                            spec.getParameters().getImages().set(extension.getServiceImages());
+                            spec.getParameters()
+                                    .getDockerExecutable()
+                                    .set(extension.getDockerExecutable());
+                        });
     }
 
     private void registerPrepareDebugTask(final Project project) {
-        project.getTasks().register(PREPARE_DEBUG_TASK_NAME, PrepareDebug.class, project);
+        project.getTasks()
+                .register(PREPARE_DEBUG_TASK_NAME, PrepareDebug.class, project)
+                .configure(
+                        task ->
+                                task.getDebugEnabled()
+                                        .convention(debugEnabled(systemTest(project))));
+    }
+
+    private static Provider<Boolean> debugEnabled(final TaskProvider<SystemTest> systemTest) {
+        final Provider<Set<String>> services = systemTest.flatMap(SystemTest::getDebugServiceNames);
+        final Provider<Set<String>> instances =
+                systemTest.flatMap(SystemTest::getDebugServiceInstanceNames);
+        return services.zip(instances, (s, i) -> !s.isEmpty() || !i.isEmpty());
     }
 
     private void registerPrepareCoverageTask(final Project project) {
         project.getTasks().register(PREPARE_COVERAGE_TASK_NAME, PrepareCoverage.class, project);
     }
 
+    private void registerLauncherJarTask(final Project project) {
+        project.getTasks()
+                .register(LAUNCHER_JAR_TASK_NAME, LauncherJar.class, project)
+                .configure(
+                        task ->
+                                task.getPathingJarEnabled()
+                                        .convention(
+                                                systemTest(project)
+                                                        .flatMap(SystemTest::getPathingJar)));
+    }
+
+    private void registerExecutorCdsTask(final Project project) {
+        project.getTasks()
+                .register(EXECUTOR_CDS_TASK_NAME, ExecutorCds.class, project)
+                .configure(
+                        task -> {
+                            task.getCdsEnabled()
+                                    .convention(
+                                            systemTest(project)
+                                                    .flatMap(SystemTest::getClassDataSharing));
+                            task.getPathingJar()
+                                    .convention(
+                                            systemTest(project)
+                                                    .flatMap(SystemTest::getPathingJar));
+                            task.getJvmArgs()
+                                    .convention(
+                                            systemTest(project)
+                                                    .flatMap(SystemTest::getExecutorLaunchJvmArgs));
+                        });
+    }
+
+    private static TaskProvider<SystemTest> systemTest(final Project project) {
+        return project.getTasks().named(SYSTEM_TEST_TASK_NAME, SystemTest.class);
+    }
+
     private void registerSystemTestExecutorConfiguration(final Project project) {
         final Configuration cfg = project.getConfigurations().create(EXECUTOR_CONFIGURATION_NAME);
         cfg.setTransitive(true);
@@ -187,6 +405,12 @@ public final class SystemTestPlugin implements Plugin<Project> {
         project.getTasks()
                 .withType(SystemTest.class)
                 .configureEach(task -> task.getSystemTestExecutor().from(cfg));
+        project.getTasks()
+                .withType(ExecutorCds.class)
+                .configureEach(task -> task.getClassPath().from(cfg));
+        project.getTasks()
+                .withType(LauncherJar.class)
+                .configureEach(task -> task.getClassPath().from(cfg));
     }
 
     private void registerSystemTestExtensionConfiguration(final Project project) {
@@ -199,6 +423,12 @@ public final class SystemTestPlugin implements Plugin<Project> {
         project.getTasks()
                 .withType(SystemTest.class)
                 .configureEach(task -> task.getSystemTestExtensions().from(cfg));
+        project.getTasks()
+                .withType(ExecutorCds.class)
+                .configureEach(task -> task.getClassPath().from(cfg));
+        project.getTasks()
+                .withType(LauncherJar.class)
+                .configureEach(task -> task.getClassPath().from(cfg));
     }
 
     private void registerSystemTestComponentConfiguration(final Project project) {
@@ -212,30 +442,56 @@ public final class SystemTestPlugin implements Plugin<Project> {
         project.getTasks()
                 .withType(SystemTest.class)
                 .configureEach(task -> task.getSystemTestComponents().from(cfg));
+        project.getTasks()
+                .withType(ExecutorCds.class)
+                .configureEach(task -> task.getClassPath().from(cfg));
+        project.getTasks()
+                .withType(LauncherJar.class)
+                .configureEach(task -> task.getClassPath().from(cfg));
     }
 
-    private void addSystemTestCoverageToAllProjectsWithJacoco(
-            final Project projectWithSystemTests) {
-        final ConfigurableFileTree execDataFiles =
-                projectWithSystemTests.fileTree(
-                        projectWithSystemTests
-                                .getLayout()
-                                .getBuildDirectory()
-                                .dir(HOST_MOUNT_DIR + "coverage"),
-                        tree -> tree.include("*.exec"));
+    private void registerCoverageElementsConfiguration(
+            final Project project, final TaskProvider<MergeResults> mergeTask) {
+        final Configuration cfg =
+                project.getConfigurations().create(COVERAGE_ELEMENTS_CONFIGURATION_NAME);
+        cfg.setTransitive(false);
+        cfg.setCanBeConsumed(true);
+        cfg.setCanBeResolved(false);
+        cfg.setDescription("Merged Creek system test coverage data, for use by other projects");
+        coverageAttributes(project, cfg);
+        cfg.getOutgoing()
+                .artifact(
+                        mergeTask.flatMap(MergeResults::getMergedExecutionData),
+                        artifact -> artifact.builtBy(mergeTask));
+    }
 
-        final Project root = projectWithSystemTests.getRootProject();
+    private void registerCoverageConfiguration(
+            final Project project, final TaskProvider<MergeResults> mergeTask) {
+        final Configuration cfg = project.getConfigurations().create(COVERAGE_CONFIGURATION_NAME);
+        cfg.setTransitive(false);
+        cfg.setCanBeConsumed(false);
+        cfg.setCanBeResolved(true);
+        cfg.setDescription("Creek system test coverage data of other projects");
+        coverageAttributes(project, cfg);
+
+        final Provider<RegularFile> mergedExecData =
+                mergeTask.flatMap(MergeResults::getMergedExecutionData);
 
-        root.getTasks()
+        project.getTasks()
                 .withType(JacocoReport.class)
-                .configureEach(report -> report.getExecutionData().from(execDataFiles));
-
-        root.subprojects(
-                sub ->
-                        sub.getTasks()
-                                .withType(JacocoReport.class)
-                                .configureEach(
-                                        report -> report.getExecutionData().from(execDataFiles)));
+                .configureEach(report -> report.getExecutionData().from(mergedExecData, cfg));
+    }
+
+    private static void coverageAttributes(final Project project, final Configuration cfg) {
+        final ObjectFactory objects = project.getObjects();
+        cfg.attributes(
+                attrs -> {
+                    attrs.attribute(
+                            Category.CATEGORY_ATTRIBUTE,
+                            objects.named(Category.class, "verification"));
+                    attrs.attribute(
+                            Usage.USAGE_ATTRIBUTE, objects.named(Usage.class, COVERAGE_USAGE));
+                });
     }
 
     private ExtensionAware ensureCreekExtension(final Project project) {
@@ -0,0 +1,252 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.creekservice.api.system.test.gradle.plugin.cds;
+
+import static org.creekservice.api.system.test.gradle.plugin.SystemTestPlugin.EXECUTOR_MAIN_CLASS;
+import static org.creekservice.api.system.test.gradle.plugin.SystemTestPlugin.GROUP_NAME;
+import static org.creekservice.api.system.test.gradle.plugin.SystemTestPlugin.LAUNCHER_JAR_TASK_NAME;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+import javax.inject.Inject;
+import org.creekservice.api.system.test.gradle.plugin.launcher.LauncherJar;
+import org.creekservice.api.system.test.gradle.plugin.util.Sha256;
+import org.gradle.api.DefaultTask;
+import org.gradle.api.Project;
+import org.gradle.api.file.ConfigurableFileCollection;
+import org.gradle.api.file.Directory;
+import org.gradle.api.file.DirectoryProperty;
+import org.gradle.api.file.RegularFileProperty;
+import org.gradle.api.provider.ListProperty;
+import org.gradle.api.provider.Property;
+import org.gradle.api.tasks.Classpath;
+import org.gradle.api.tasks.Input;
+import org.gradle.api.tasks.Internal;
+import org.gradle.api.tasks.OutputDirectory;
+import org.gradle.api.tasks.TaskAction;
+import org.gradle.process.ExecOperations;
+import org.gradle.work.DisableCachingByDefault;
+
+/**
+ * Task for creating an AppCDS archive of the classes the system test executor loads at startup.
+ *
+ * <p>The executor is run once, with the {@link #getTrainingArguments() training arguments}, and
+ * the classes it loaded are dumped to a dynamic class data sharing archive when it exits. Later
+ * executor launches map the archive rather than loading and verifying the classes from their jars.
+ *
+ * <p>The archive is keyed on a hash of the executor class path, as the JVM ignores an archive
+ * whose class path does not match. The same key decides whether the task is up-to-date and which
+ * archive the executor is launched with. The task is skipped unless class data sharing is enabled.
+ */
+@DisableCachingByDefault(because = "archive is specific to the JVM and the absolute class path")
+public abstract class ExecutorCds extends DefaultTask {
+
+    private static final String ARCHIVE_PREFIX = "executor-";
+    private static final String ARCHIVE_SUFFIX = ".jsa";
+
+    /**
+     * Create task
+     *
+     * @param project the project being configured.
+     */
+    @Inject
+    public ExecutorCds(final Project project) {
+        setGroup(GROUP_NAME);
+        setDescription("Creates a class data sharing archive for the system test executor");
+
+        getTrainingArguments().convention(List.of("--echo-only"));
+        getJvmArgs().convention(List.of());
+        getPathingJar().convention(false);
+        getLauncherJar()
+                .convention(
+                        project.getTasks()
+                                .named(LAUNCHER_JAR_TASK_NAME, LauncherJar.class)
+                                .flatMap(LauncherJar::getLauncherJar));
+        dependsOn(LAUNCHER_JAR_TASK_NAME);
+        getArchiveDirectory()
+                .convention(project.getLayout().getBuildDirectory().dir("creek/executor-cds"));
+
+        onlyIf(t -> getCdsEnabled().getOrElse(true));
+    }
+
+    /**
+     * @return the exec operations service for running Java processes.
+     */
+    @Inject
+    protected abstract ExecOperations getExecOperations();
+
+    /**
+     * Whether the system test executor uses class data sharing.
+     *
+     * @return the enabled property.
+     */
+    @Internal
+    public abstract Property<Boolean> getCdsEnabled();
+
+    /**
+     * @return the executor class path: the executor, its extensions and the components under test.
+     */
+    @Classpath
+    public abstract ConfigurableFileCollection getClassPath();
+
+    /**
+     * Whether the executor is launched from a pathing jar.
+     *
+     * <p>The training run is launched in the same way as the executor, as the JVM only uses the
+     * archive if the class path matches.
+     *
+     * @return the pathing jar property.
+     */
+    @Input
+    public abstract Property<Boolean> getPathingJar();
+
+    /**
+     * @return the pathing jar the executor is launched from, if {@link #getPathingJar() enabled}.
+     */
+    @Internal
+    public abstract RegularFileProperty getLauncherJar();
+
+    /**
+     * The arguments passed to the executor during the training run.
+     *
+     * <p>Only classes loaded during the training run are archived. The default only exercises the
+     * executor's startup. A short run of representative suites archives more of the classes of
+     * extensions and components, at the cost of a slower training run.
+     *
+     * @return the training arguments. Default: {@code --echo-only}.
+     */
+    @Input
+    public abstract ListProperty<String> getTrainingArguments();
+
+    /**
+     * The JVM arguments the executor is launched with.
+     *
+     * <p>The training run uses the same arguments, e.g. the garbage collector and maximum heap, as
+     * the executor, so that the archived classes match those the executor loads.
+     *
+     * @return the executor JVM arguments.
+     */
+    @Input
+    public abstract ListProperty<String> getJvmArgs();
+
+    /**
+     * The key of the archive.
+     *
+     * <p>The JVM validates the path, size and modification time of each class path entry, rather
+     * than its content, so these must also decide whether the archive is up-to-date.
+     *
+     * @return the archive key.
+     */
+    @Input
+    public String getArchiveKey() {
+        return archiveKey(launchClassPath());
+    }
+
+    /**
+     * @return the directory the archive is written to.
+     */
+    @OutputDirectory
+    public abstract DirectoryProperty getArchiveDirectory();
+
+    /**
+     * Find the archive for a class path within an archive directory.
+     *
+     * @param dir the archive directory.
+     * @param classPath the class path the executor is launched with.
+     * @return the archive, if one has been created for the class path.
+     */
+    public static Optional<Path> archiveFile(
+            final Directory dir, final Collection<File> classPath) {
+        final Path archive =
+                dir.getAsFile().toPath().resolve(archiveFileName(archiveKey(classPath)));
+        return Files.isRegularFile(archive) ? Optional.of(archive) : Optional.empty();
+    }
+
+    /**
+     * Run the task.
+     *
+     * @throws IOException on failed file operations
+     */
+    @TaskAction
+    public void run() throws IOException {
+        final Path archiveDir = getArchiveDirectory().get().getAsFile().toPath().toAbsolutePath();
+        deleteArchives(archiveDir);
+
+        final Collection<File> classPath = launchClassPath();
+        final Path archive = archiveDir.resolve(archiveFileName(archiveKey(classPath)));
+
+        final int exitCode =
+                getExecOperations()
+                        .javaexec(
+                                spec -> {
+                                    spec.getMainClass().set(EXECUTOR_MAIN_CLASS);
+                                    spec.classpath(classPath);
+                                    spec.setArgs(getTrainingArguments().get());
+                                    spec.jvmArgs(getJvmArgs().get());
+                                    spec.jvmArgs("-XX:ArchiveClassesAtExit=" + archive);
+                                    spec.setIgnoreExitValue(true);
+                                })
+                        .getExitValue();
+
+        if (exitCode != 0 || !Files.isRegularFile(archive)) {
+            getLogger()
+                    .warn(
+                            "Failed to create executor class data sharing archive."
+                                    + " The executor will start without it. exitCode: "
+                                    + exitCode);
+        }
+    }
+
+    private Collection<File> launchClassPath() {
+        return LauncherJar.launchClassPath(
+                getPathingJar().get(),
+                getLauncherJar().get().getAsFile(),
+                getClassPath().getFiles());
+    }
+
+    private static void deleteArchives(final Path archiveDir) throws IOException {
+        Files.createDirectories(archiveDir);
+        try (Stream<Path> existing = Files.list(archiveDir)) {
+            for (final Path file : existing.toArray(Path[]::new)) {
+                // The JVM writes archives read-only, which blocks deletion on some platforms:
+                if (!file.toFile().setWritable(true)) {
+                    throw new IOException("Failed to make writable: " + file);
+                }
+                Files.delete(file);
+            }
+        }
+    }
+
+    /**
+     * The JVM validates the path, size and modification time of each class path entry against
+     * those recorded in the archive, and the archive against the JVM build, so these make the key.
+     */
+    private static String archiveKey(final Collection<File> classPath) {
+        final Sha256 hash = Sha256.create().add(System.getProperty("java.vm.version"));
+        classPath.forEach(file -> hash.addAttributes(file.toPath()));
+        return hash.hex(16);
+    }
+
+    private static String archiveFileName(final String archiveKey) {
+        return ARCHIVE_PREFIX + archiveKey + ARCHIVE_SUFFIX;
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.system.test.gradle.plugin.coverage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collection;
+
+/** Helpers for working with JaCoCo execution data files. */
+public final class ExecutionDataFiles {
+
+    /** The bytes every non-empty JaCoCo execution data file starts with: block type & magic. */
+    private static final byte[] HEADER = {0x01, (byte) 0xC0, (byte) 0xC0};
+
+    private ExecutionDataFiles() {}
+
+    /**
+     * Merge execution data files into a single file.
+     *
+     * <p>The JaCoCo execution data format allows multiple files to be concatenated, so the files
+     * are streamed into the {@code target}, one after another, without loading them into memory.
+     * Empty files, e.g. those left by services that did not shut down cleanly, are skipped.
+     *
+     * @param sources the execution data files to merge.
+     * @param target the file to write the merged data to.
+     * @return the number of files merged.
+     * @throws IllegalArgumentException if a non-empty source is not an execution data file.
+     */
+    public static int merge(final Collection<Path> sources, final Path target) {
+        int merged = 0;
+        try {
+            Files.createDirectories(target.toAbsolutePath().getParent());
+            try (OutputStream out = Files.newOutputStream(target)) {
+                for (final Path source : sources) {
+                    if (Files.size(source) == 0) {
+                        continue;
+                    }
+
+                    try (InputStream in = Files.newInputStream(source)) {
+                        final byte[] header = in.readNBytes(HEADER.length);
+                        if (!Arrays.equals(header, HEADER)) {
+                            throw new IllegalArgumentException(
+                                    "Not a JaCoCo execution data file: " + source);
+                        }
+                        out.write(header);
+                        in.transferTo(out);
+                    }
+                    merged++;
+                }
+            }
+        } catch (final IOException e) {
+            throw new UncheckedIOException("Failed to merge execution data into " + target, e);
+        }
+        return merged;
+    }
+}
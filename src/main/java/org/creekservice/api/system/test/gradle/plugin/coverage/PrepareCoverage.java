@@ -16,31 +16,52 @@
 
 package org.creekservice.api.system.test.gradle.plugin.coverage;
 
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
 import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
 import static org.creekservice.api.system.test.gradle.plugin.SystemTestPlugin.GROUP_NAME;
 import static org.creekservice.api.system.test.gradle.plugin.SystemTestPlugin.HOST_MOUNT_DIR;
 
+import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
 import javax.inject.Inject;
 import org.gradle.api.DefaultTask;
+import org.gradle.api.GradleException;
 import org.gradle.api.Project;
-import org.gradle.api.artifacts.Configuration;
+import org.gradle.api.file.ConfigurableFileCollection;
 import org.gradle.api.file.Directory;
 import org.gradle.api.file.DirectoryProperty;
 import org.gradle.api.file.FileTree;
+import org.gradle.api.tasks.CacheableTask;
+import org.gradle.api.tasks.InputFiles;
 import org.gradle.api.tasks.Internal;
 import org.gradle.api.tasks.OutputDirectory;
+import org.gradle.api.tasks.PathSensitive;
+import org.gradle.api.tasks.PathSensitivity;
 import org.gradle.api.tasks.TaskAction;
 import org.gradle.testing.jacoco.plugins.JacocoPlugin;
-import org.gradle.work.DisableCachingByDefault;
 
-/** Task for setting up a mount directory storing the Jacoco agent. */
-@DisableCachingByDefault(because = "No inputs")
+/**
+ * Task for setting up a mount directory storing the Jacoco agent.
+ *
+ * <p>The agent jar is extracted from the JaCoCo agent dependency once per agent version, into a
+ * cache directory shared by all builds, and copied from there into the mount directory.
+ */
+@CacheableTask
 public abstract class PrepareCoverage extends DefaultTask {
 
+    /** The name of the agent jar within the JaCoCo agent dependency. */
+    public static final String AGENT_JAR_NAME = "jacocoagent.jar";
+
+    /** Location, under the Gradle user home, where extracted agent jars are cached. */
+    public static final String AGENT_CACHE_DIR = "caches/creek/jacoco-agent";
+
     /**
      * Create task
      *
@@ -53,9 +74,33 @@ public abstract class PrepareCoverage extends DefaultTask {
         getMountDirectory()
                 .set(project.getLayout().getBuildDirectory().dir(HOST_MOUNT_DIR + "jacoco"));
 
-        onlyIf(t -> jacocoAgentConfig() != null);
+        final File cacheDir = new File(project.getGradle().getGradleUserHomeDir(), AGENT_CACHE_DIR);
+        getAgentCacheDirectory()
+                .convention(project.getLayout().dir(project.provider(() -> cacheDir)));
+
+        project.getPlugins().withType(JacocoPlugin.class, plugin -> addJacocoAgent(project));
+
+        onlyIf(t -> !getJacocoAgent().isEmpty());
     }
 
+    /**
+     * @return the JaCoCo agent dependency, which is empty if the JaCoCo plugin is not applied.
+     */
+    @InputFiles
+    @PathSensitive(PathSensitivity.NONE)
+    public abstract ConfigurableFileCollection getJacocoAgent();
+
+    /**
+     * The directory extracted agent jars are cached in, keyed by the agent dependency's file name,
+     * which includes its version.
+     *
+     * <p>Defaults to a directory under the Gradle user home.
+     *
+     * @return the agent cache directory.
+     */
+    @Internal
+    public abstract DirectoryProperty getAgentCacheDirectory();
+
     /**
      * @return The directory under which the JaCoCo agent jar should be stored.
      */
@@ -70,9 +115,8 @@ public abstract class PrepareCoverage extends DefaultTask {
     @TaskAction
     public void run() throws IOException {
         final Path mountDir = getMountDirectory().get().getAsFile().toPath().toAbsolutePath();
-        final Configuration jacocoAgentConf = jacocoAgentConfig();
         createMountDir(mountDir);
-        copyAgentJar(mountDir, jacocoAgentConf);
+        Files.copy(cachedAgentJar(), mountDir.resolve(AGENT_JAR_NAME), REPLACE_EXISTING);
     }
 
     /**
@@ -81,30 +125,71 @@ public abstract class PrepareCoverage extends DefaultTask {
      */
     @Internal
     public Optional<Path> getAgentJarFileName() {
-        final Directory dir = getMountDirectory().get();
+        return agentJarFileName(getMountDirectory().get());
+    }
+
+    /**
+     * Find the agent jar within a mount directory.
+     *
+     * @param dir the mount directory.
+     * @return the agent jar filename, relative to the {@code dir}, if present.
+     */
+    static Optional<Path> agentJarFileName(final Directory dir) {
         final FileTree files = dir.getAsFileTree();
         return Optional.of(dir.getAsFile().toPath().relativize(files.getSingleFile().toPath()));
     }
 
+    private void addJacocoAgent(final Project project) {
+        getJacocoAgent()
+                .from(project.getConfigurations().getByName(JacocoPlugin.AGENT_CONFIGURATION_NAME));
+    }
+
     private void createMountDir(final Path mountDir) throws IOException {
         Files.createDirectories(mountDir);
     }
 
-    private void copyAgentJar(final Path mountDir, final Configuration jacocoAgentConf)
-            throws IOException {
-        final Path agentJar = extractAgentJar(jacocoAgentConf);
-        Files.copy(agentJar, mountDir.resolve(agentJar.getFileName()), REPLACE_EXISTING);
+    private Path cachedAgentJar() throws IOException {
+        final File agentDependency = getJacocoAgent().getSingleFile();
+        final String key = agentDependency.getName().replaceFirst("\\.jar$", "");
+        final Path cacheDir = getAgentCacheDirectory().get().getAsFile().toPath().resolve(key);
+        final Path cached = cacheDir.resolve(AGENT_JAR_NAME);
+        if (Files.isRegularFile(cached)) {
+            getLogger().debug("Using cached JaCoCo agent: " + cached);
+            return cached;
+        }
+
+        Files.createDirectories(cacheDir);
+        final Path temp = Files.createTempFile(cacheDir, AGENT_JAR_NAME, ".tmp");
+        try {
+            extractAgentJar(agentDependency, temp);
+            moveIntoCache(temp, cached);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+        return cached;
     }
 
-    private Path extractAgentJar(final Configuration jacocoAgentConf) {
-        return getProject()
-                .zipTree(jacocoAgentConf.getSingleFile())
-                .filter(f -> f.getName().endsWith(".jar"))
-                .getSingleFile()
-                .toPath();
+    private static void extractAgentJar(final File agentDependency, final Path target)
+            throws IOException {
+        try (ZipFile zip = new ZipFile(agentDependency)) {
+            final ZipEntry entry = zip.getEntry(AGENT_JAR_NAME);
+            if (entry == null) {
+                throw new GradleException(
+                        "No " + AGENT_JAR_NAME + " found in JaCoCo agent: " + agentDependency);
+            }
+
+            try (InputStream in = zip.getInputStream(entry)) {
+                Files.copy(in, target, REPLACE_EXISTING);
+            }
+        }
     }
 
-    private Configuration jacocoAgentConfig() {
-        return getProject().getConfigurations().findByName(JacocoPlugin.AGENT_CONFIGURATION_NAME);
+    private static void moveIntoCache(final Path temp, final Path cached) throws IOException {
+        try {
+            // Atomic, as concurrent builds may be populating the same cache entry:
+            Files.move(temp, cached, ATOMIC_MOVE);
+        } catch (final AtomicMoveNotSupportedException e) {
+            Files.move(temp, cached, REPLACE_EXISTING);
+        }
     }
 }
@@ -28,7 +28,6 @@ import java.util.List;
 import java.util.stream.Stream;
 import org.creekservice.api.system.test.gradle.plugin.SystemTestPlugin;
 import org.creekservice.api.system.test.gradle.plugin.test.SystemTest;
-import org.gradle.api.Project;
 import org.gradle.api.file.DirectoryProperty;
 import org.gradle.api.tasks.OutputDirectory;
 
@@ -54,7 +53,7 @@ public class SystemTestCoverageExtension {
      */
     public static final String CONTAINER_RESULT_MOUNT = CONTAINER_MOUNT_DIR + "coverage/";
 
-    private final PrepareCoverage prepareTask;
+    private final DirectoryProperty agentDir;
     private final DirectoryProperty mountDir;
 
     /**
@@ -63,7 +62,12 @@ public class SystemTestCoverageExtension {
      * @param task the test the extension is being applied to.
      */
     public SystemTestCoverageExtension(final SystemTest task) {
-        this.prepareTask = prepareCoverageTask(task.getProject());
+        this.agentDir = task.getProject().getObjects().directoryProperty();
+        this.agentDir.set(
+                task.getProject()
+                        .getTasks()
+                        .named(SystemTestPlugin.PREPARE_COVERAGE_TASK_NAME, PrepareCoverage.class)
+                        .flatMap(PrepareCoverage::getMountDirectory));
         this.mountDir = task.getProject().getObjects().directoryProperty();
         this.mountDir.convention(
                 task.getProject().getLayout().getBuildDirectory().dir(HOST_MOUNT_DIR + "coverage"));
@@ -82,15 +86,34 @@ public class SystemTestCoverageExtension {
      * @return command line arguments to pass to the test executor to set up the coverage mounts.
      */
     public List<String> mountOptions() {
+        return mountOptions(getResultMountDirectory().getAsFile().get().toPath());
+    }
+
+    /**
+     * Get the mount options for one of several executors running in parallel.
+     *
+     * <p>Each shard writes its coverage results to its own subdirectory of the {@link
+     * #getResultMountDirectory() result mount directory}, which is created by this call.
+     *
+     * @param shardName the name of the shard.
+     * @return command line arguments to pass to the shard's test executor to set up the coverage
+     *     mounts.
+     */
+    public List<String> mountOptions(final String shardName) {
+        final Path shardDir =
+                getResultMountDirectory().getAsFile().get().toPath().resolve(shardName);
+        try {
+            Files.createDirectories(shardDir);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return mountOptions(shardDir);
+    }
+
+    private List<String> mountOptions(final Path resultDir) {
         return List.of(
-                "--mount-read-only="
-                        + prepareTask.getMountDirectory().get()
-                        + "="
-                        + CONTAINER_AGENT_MOUNT,
-                "--mount-writable="
-                        + getResultMountDirectory().get()
-                        + "="
-                        + CONTAINER_RESULT_MOUNT);
+                "--mount-read-only=" + agentDir.get() + "=" + CONTAINER_AGENT_MOUNT,
+                "--mount-writable=" + resultDir + "=" + CONTAINER_RESULT_MOUNT);
     }
 
     /**
@@ -98,9 +121,26 @@ public class SystemTestCoverageExtension {
      *     coverage captured.
      */
     public String asJavaToolOptions() {
+        return javaToolOptions("${SERVICE_INSTANCE_NAME}.exec");
+    }
+
+    /**
+     * Get the Java tool options for one shard of suites spread across several build nodes.
+     *
+     * <p>The coverage data file of each service instance is suffixed with the shard name, so that
+     * the data from different shards can be safely combined.
+     *
+     * @param shardName the name of the shard.
+     * @return the text to place into the {@code JAVA_TOOL_OPTIONS} environment variable to have
+     *     coverage captured.
+     */
+    public String asJavaToolOptions(final String shardName) {
+        return javaToolOptions("${SERVICE_INSTANCE_NAME}-" + shardName + ".exec");
+    }
+
+    private String javaToolOptions(final String execFileName) {
         final Path agentJarFileName =
-                prepareTask
-                        .getAgentJarFileName()
+                PrepareCoverage.agentJarFileName(agentDir.get())
                         .orElseThrow(() -> new IllegalStateException("No Jacoco agent jar found."));
 
         return "-javaagent:"
@@ -108,7 +148,7 @@ public class SystemTestCoverageExtension {
                 + agentJarFileName
                 + "=destfile="
                 + CONTAINER_RESULT_MOUNT
-                + "${SERVICE_INSTANCE_NAME}.exec"
+                + execFileName
                 + ",append=true,inclnolocationclasses=false,dumponexit=true,output=file,jmx=false";
     }
 
@@ -139,11 +179,4 @@ public class SystemTestCoverageExtension {
                             });
         }
     }
-
-    private static PrepareCoverage prepareCoverageTask(final Project project) {
-        return (PrepareCoverage)
-                project.getTasksByName(SystemTestPlugin.PREPARE_COVERAGE_TASK_NAME, false)
-                        .iterator()
-                        .next();
-    }
 }
@@ -0,0 +1,288 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.system.test.gradle.plugin.daemon;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.AclEntry;
+import java.nio.file.attribute.AclEntryPermission;
+import java.nio.file.attribute.AclEntryType;
+import java.nio.file.attribute.AclFileAttributeView;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Properties;
+
+/**
+ * The protocol spoken between the plugin and a warm executor daemon.
+ *
+ * <p>The plugin sends a single request: a token, to prove it read the daemon's port file, a
+ * command and the executor's arguments. While running, the daemon sends back frames of standard
+ * output and error, followed by an exit frame.
+ */
+final class DaemonProtocol {
+
+    /** Run the executor with the supplied arguments. */
+    static final String RUN = "run";
+
+    /** Shut the daemon down. */
+    static final String STOP = "stop";
+
+    /** Exit code sent when the executor exited the JVM, so its exit code is not known. */
+    static final int EXIT_UNKNOWN = Integer.MIN_VALUE;
+
+    private static final byte STDOUT = 1;
+    private static final byte STDERR = 2;
+    private static final byte EXIT = 3;
+
+    private static final int MAX_ARGS = 10_000;
+    private static final int MAX_STRING_BYTES = 16 * 1024 * 1024;
+
+    private DaemonProtocol() {}
+
+    /** A request sent to the daemon. */
+    static final class Request {
+        final String token;
+        final String command;
+        final List<String> args;
+
+        Request(final String token, final String command, final List<String> args) {
+            this.token = token;
+            this.command = command;
+            this.args = List.copyOf(args);
+        }
+    }
+
+    static void writeRequest(final DataOutputStream out, final Request request)
+            throws IOException {
+        writeString(out, request.token);
+        writeString(out, request.command);
+        out.writeInt(request.args.size());
+        for (final String arg : request.args) {
+            writeString(out, arg);
+        }
+        out.flush();
+    }
+
+    static Request readRequest(final DataInputStream in) throws IOException {
+        final String token = readString(in);
+        final String command = readString(in);
+        final int count = in.readInt();
+        if (count < 0 || count > MAX_ARGS) {
+            throw new IOException("Invalid argument count: " + count);
+        }
+
+        final List<String> args = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            args.add(readString(in));
+        }
+        return new Request(token, command, args);
+    }
+
+    /**
+     * @return stream that writes standard output frames to {@code out}.
+     */
+    static OutputStream stdout(final DataOutputStream out) {
+        return new FrameOutputStream(out, STDOUT);
+    }
+
+    /**
+     * @return stream that writes standard error frames to {@code out}.
+     */
+    static OutputStream stderr(final DataOutputStream out) {
+        return new FrameOutputStream(out, STDERR);
+    }
+
+    static void writeExit(final DataOutputStream out, final int exitCode) throws IOException {
+        synchronized (out) {
+            out.writeByte(EXIT);
+            out.writeInt(exitCode);
+            out.flush();
+        }
+    }
+
+    /**
+     * Copy output frames from the daemon until it exits.
+     *
+     * @param in the stream from the daemon.
+     * @param stdout where to write standard output.
+     * @param stderr where to write standard error.
+     * @return the exit code, or {@link #EXIT_UNKNOWN}.
+     * @throws IOException if the daemon disconnects without exiting.
+     */
+    static int pump(final DataInputStream in, final OutputStream stdout, final OutputStream stderr)
+            throws IOException {
+        while (true) {
+            final byte type;
+            try {
+                type = in.readByte();
+            } catch (final EOFException e) {
+                throw new IOException("Executor daemon disconnected unexpectedly", e);
+            }
+
+            switch (type) {
+                case STDOUT:
+                    copyFrame(in, stdout);
+                    break;
+                case STDERR:
+                    copyFrame(in, stderr);
+                    break;
+                case EXIT:
+                    stdout.flush();
+                    stderr.flush();
+                    return in.readInt();
+                default:
+                    throw new IOException("Unknown frame type: " + type);
+            }
+        }
+    }
+
+    /**
+     * Write a daemon's port file.
+     *
+     * <p>The file is written to a temporary file and moved into place, so readers never see a
+     * partial file.
+     */
+    static void writePortFile(final Path file, final int port, final String token)
+            throws IOException {
+        final Properties props = new Properties();
+        props.setProperty("port", String.valueOf(port));
+        props.setProperty("token", token);
+
+        final Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        createOwnerOnlyFile(temp);
+        try (Writer writer = Files.newBufferedWriter(temp, UTF_8)) {
+            props.store(writer, null);
+        }
+        Files.move(temp, file, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Create an empty file only its owner can read or write, as the port file holds the token that
+     * authenticates requests to the daemon.
+     *
+     * <p>POSIX permissions are used where supported, falling back to an ACL granting access only
+     * to the owner, e.g. on Windows.
+     */
+    private static void createOwnerOnlyFile(final Path file) throws IOException {
+        Files.deleteIfExists(file);
+        if (FileSystems.getDefault().supportedFileAttributeViews().contains("posix")) {
+            Files.createFile(
+                    file,
+                    PosixFilePermissions.asFileAttribute(
+                            PosixFilePermissions.fromString("rw-------")));
+            return;
+        }
+
+        Files.createFile(file);
+        final AclFileAttributeView acl =
+                Files.getFileAttributeView(file, AclFileAttributeView.class);
+        if (acl != null) {
+            acl.setAcl(
+                    List.of(
+                            AclEntry.newBuilder()
+                                    .setType(AclEntryType.ALLOW)
+                                    .setPrincipal(Files.getOwner(file))
+                                    .setPermissions(EnumSet.allOf(AclEntryPermission.class))
+                                    .build()));
+        }
+    }
+
+    static Properties readPortFile(final Path file) {
+        final Properties props = new Properties();
+        try (Reader reader = Files.newBufferedReader(file, UTF_8)) {
+            props.load(reader);
+        } catch (final IOException e) {
+            throw new UncheckedIOException("Failed to read daemon port file " + file, e);
+        }
+        return props;
+    }
+
+    private static void copyFrame(final DataInputStream in, final OutputStream out)
+            throws IOException {
+        final int length = in.readInt();
+        final byte[] bytes = in.readNBytes(length);
+        if (bytes.length != length) {
+            throw new IOException("Executor daemon disconnected unexpectedly");
+        }
+        out.write(bytes);
+    }
+
+    private static void writeString(final DataOutputStream out, final String value)
+            throws IOException {
+        final byte[] bytes = value.getBytes(UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(final DataInputStream in) throws IOException {
+        final int length = in.readInt();
+        if (length < 0 || length > MAX_STRING_BYTES) {
+            throw new IOException("Invalid string length: " + length);
+        }
+        final byte[] bytes = in.readNBytes(length);
+        if (bytes.length != length) {
+            throw new EOFException();
+        }
+        return new String(bytes, UTF_8);
+    }
+
+    private static final class FrameOutputStream extends OutputStream {
+
+        private final DataOutputStream out;
+        private final byte type;
+
+        FrameOutputStream(final DataOutputStream out, final byte type) {
+            this.out = out;
+            this.type = type;
+        }
+
+        @Override
+        public void write(final int b) throws IOException {
+            write(new byte[] {(byte) b}, 0, 1);
+        }
+
+        @Override
+        public void write(final byte[] b, final int off, final int len) throws IOException {
+            synchronized (out) {
+                out.writeByte(type);
+                out.writeInt(len);
+                out.write(b, off, len);
+            }
+        }
+
+        @Override
+        public void flush() throws IOException {
+            synchronized (out) {
+                out.flush();
+            }
+        }
+    }
+}
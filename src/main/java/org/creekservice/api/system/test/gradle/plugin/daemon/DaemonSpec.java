@@ -0,0 +1,151 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.system.test.gradle.plugin.daemon;
+
+import java.io.File;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import org.creekservice.api.system.test.gradle.plugin.util.Sha256;
+
+/** Describes the warm executor daemon needed to run the executor. */
+public final class DaemonSpec {
+
+    private final String mainClass;
+    private final List<File> classPath;
+    private final List<String> jvmArgs;
+    private final Path workingDir;
+    private final String owner;
+    private final Map<String, String> environment;
+    private final Duration idleTimeout;
+
+    /**
+     * @param mainClass the executor's main class.
+     * @param classPath the executor's class path.
+     * @param jvmArgs the JVM arguments of the executor.
+     * @param workingDir the working directory of the executor.
+     * @param owner the path of the task using the daemon.
+     * @param environment the environment variables of the executor. See {@link #environment(Map,
+     *     List)}.
+     * @param idleTimeout how long an unused daemon waits before shutting down.
+     */
+    public DaemonSpec(
+            final String mainClass,
+            final Set<File> classPath,
+            final List<String> jvmArgs,
+            final Path workingDir,
+            final String owner,
+            final Map<String, String> environment,
+            final Duration idleTimeout) {
+        this.mainClass = mainClass;
+        this.classPath = List.copyOf(classPath);
+        this.jvmArgs = List.copyOf(jvmArgs);
+        this.workingDir = workingDir.toAbsolutePath();
+        this.owner = owner;
+        this.environment = Map.copyOf(environment);
+        this.idleTimeout = idleTimeout;
+    }
+
+    /**
+     * Select the environment variables to pass to a daemon.
+     *
+     * <p>Only variables that affect the executor should be selected, as daemons started with
+     * different values are not reused: including variables such as CI build IDs would stop daemons
+     * ever being reused across builds.
+     *
+     * @param environment the full environment, e.g. {@link System#getenv()}.
+     * @param names the names of the variables to select. A trailing {@code *} matches any suffix.
+     *     Names are matched ignoring case.
+     * @return the selected variables.
+     */
+    public static Map<String, String> environment(
+            final Map<String, String> environment, final List<String> names) {
+        final Map<String, String> selected = new TreeMap<>();
+        environment.forEach(
+                (name, value) -> {
+                    if (names.stream().anyMatch(pattern -> matches(name, pattern))) {
+                        selected.put(name, value);
+                    }
+                });
+        return selected;
+    }
+
+    private static boolean matches(final String name, final String pattern) {
+        final String upperName = name.toUpperCase(Locale.ROOT);
+        final String upperPattern = pattern.toUpperCase(Locale.ROOT);
+        return upperPattern.endsWith("*")
+                ? upperName.startsWith(upperPattern.substring(0, upperPattern.length() - 1))
+                : upperName.equals(upperPattern);
+    }
+
+    String mainClass() {
+        return mainClass;
+    }
+
+    List<File> classPath() {
+        return classPath;
+    }
+
+    List<String> jvmArgs() {
+        return jvmArgs;
+    }
+
+    Path workingDir() {
+        return workingDir;
+    }
+
+    Map<String, String> environment() {
+        return environment;
+    }
+
+    Duration idleTimeout() {
+        return idleTimeout;
+    }
+
+    /**
+     * A hash of the working directory and owning task, identifying the daemons of a task.
+     *
+     * <p>Daemons are grouped by task, so that one task never stops the daemons of another, e.g. a
+     * second system test task in the same project with different JVM arguments.
+     *
+     * @return the key.
+     */
+    String ownerKey() {
+        return Sha256.create().add(workingDir.toString()).add(owner).hex(8);
+    }
+
+    /**
+     * A hash of everything that affects the daemon's JVM.
+     *
+     * <p>Class path entries are hashed by path, size and modification time, which is cheap, and
+     * changes whenever a dependency is rebuilt. The environment is included, as a daemon keeps the
+     * environment it was started with, e.g. {@code DOCKER_HOST} or credentials.
+     *
+     * @return the key.
+     */
+    String key() {
+        final Sha256 hash = Sha256.create().add(System.getProperty("java.home")).add(mainClass);
+        jvmArgs.forEach(hash::add);
+        new TreeMap<>(environment).forEach((name, value) -> hash.add(name).add(value));
+        classPath.forEach(file -> hash.addAttributes(file.toPath()));
+        return hash.hex(16);
+    }
+}
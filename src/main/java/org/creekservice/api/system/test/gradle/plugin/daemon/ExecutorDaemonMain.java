@@ -0,0 +1,176 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.system.test.gradle.plugin.daemon;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.SecureRandom;
+import java.util.HexFormat;
+import java.util.ServiceLoader;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Entry point of a warm executor daemon.
+ *
+ * <p>The daemon is a JVM started ahead of time, with the executor's class path, which loads the
+ * executor and discovers its extensions, then waits for a single run request on a local socket.
+ * This moves the cost of starting the executor out of the build that needs it.
+ *
+ * <p>Once it has run the executor the daemon exits, as the executor is not designed to be run more
+ * than once per JVM. If no request arrives within the idle timeout, the daemon exits.
+ *
+ * <p>This class runs outside of Gradle, so must only depend on the JDK.
+ */
+public final class ExecutorDaemonMain {
+
+    private static final String EXTENSION_TYPE =
+            "org.creekservice.api.system.test.extension.CreekTestExtension";
+
+    private ExecutorDaemonMain() {}
+
+    /**
+     * Run the daemon.
+     *
+     * @param args the port file to write, the startup marker file to delete once ready, the idle
+     *     timeout in seconds and the executor's main class.
+     * @throws Exception on failure.
+     */
+    public static void main(final String... args) throws Exception {
+        final Path portFile = Path.of(args[0]);
+        final Path startingFile = Path.of(args[1]);
+        final int idleTimeoutSeconds = Integer.parseInt(args[2]);
+        final Method main = warmUp(args[3]);
+
+        try (ServerSocket server = new ServerSocket(0, 1, InetAddress.getLoopbackAddress())) {
+            server.setSoTimeout(Math.toIntExact(idleTimeoutSeconds * 1000L));
+
+            final String token = newToken();
+            DaemonProtocol.writePortFile(portFile, server.getLocalPort(), token);
+            Files.deleteIfExists(startingFile);
+
+            while (true) {
+                final Socket socket;
+                try {
+                    socket = server.accept();
+                } catch (final SocketTimeoutException e) {
+                    Files.deleteIfExists(portFile);
+                    return;
+                }
+
+                final DaemonProtocol.Request request;
+                try {
+                    request =
+                            DaemonProtocol.readRequest(
+                                    new DataInputStream(
+                                            new BufferedInputStream(socket.getInputStream())));
+                } catch (final IOException e) {
+                    socket.close();
+                    continue;
+                }
+
+                if (!token.equals(request.token)) {
+                    socket.close();
+                    continue;
+                }
+
+                if (DaemonProtocol.STOP.equals(request.command)) {
+                    socket.close();
+                    Files.deleteIfExists(portFile);
+                    return;
+                }
+
+                runExecutor(main, request, socket);
+            }
+        }
+    }
+
+    private static Method warmUp(final String mainClass) throws Exception {
+        final ClassLoader loader = ExecutorDaemonMain.class.getClassLoader();
+        final Method main =
+                Class.forName(mainClass, true, loader).getMethod("main", String[].class);
+
+        try {
+            final Class<?> extensionType = Class.forName(EXTENSION_TYPE, true, loader);
+            ServiceLoader.load(extensionType, loader).stream().forEach(ServiceLoader.Provider::type);
+        } catch (final ClassNotFoundException e) {
+            // Older executor: nothing to preload.
+        }
+        return main;
+    }
+
+    private static void runExecutor(
+            final Method main, final DaemonProtocol.Request request, final Socket socket)
+            throws IOException {
+        final DataOutputStream out =
+                new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+        System.setOut(new PrintStream(DaemonProtocol.stdout(out), true, UTF_8));
+        System.setErr(new PrintStream(DaemonProtocol.stderr(out), true, UTF_8));
+
+        // The executor may exit the JVM, in which case its exit code is not known:
+        final AtomicBoolean reported = new AtomicBoolean();
+        Runtime.getRuntime()
+                .addShutdownHook(
+                        new Thread(() -> reportExit(out, reported, DaemonProtocol.EXIT_UNKNOWN)));
+
+        int exitCode = 0;
+        try {
+            main.invoke(null, (Object) request.args.toArray(new String[0]));
+        } catch (final InvocationTargetException e) {
+            e.getCause().printStackTrace(System.err);
+            exitCode = 1;
+        } catch (final IllegalAccessException e) {
+            e.printStackTrace(System.err);
+            exitCode = 1;
+        }
+
+        System.out.flush();
+        System.err.flush();
+        reportExit(out, reported, exitCode);
+        System.exit(exitCode);
+    }
+
+    private static void reportExit(
+            final DataOutputStream out, final AtomicBoolean reported, final int exitCode) {
+        if (reported.compareAndSet(false, true)) {
+            try {
+                DaemonProtocol.writeExit(out, exitCode);
+            } catch (final IOException e) {
+                // Plugin has gone away: nothing to report to.
+            }
+        }
+    }
+
+    private static String newToken() {
+        final byte[] bytes = new byte[16];
+        new SecureRandom().nextBytes(bytes);
+        return HexFormat.of().formatHex(bytes);
+    }
+}
@@ -0,0 +1,409 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.system.test.gradle.plugin.daemon;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.net.URISyntaxException;
+import java.nio.file.FileSystemException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.creekservice.api.system.test.gradle.plugin.util.Jvm;
+import org.gradle.api.GradleException;
+import org.gradle.api.file.DirectoryProperty;
+import org.gradle.api.logging.Logger;
+import org.gradle.api.logging.Logging;
+import org.gradle.api.services.BuildService;
+import org.gradle.api.services.BuildServiceParameters;
+
+/**
+ * Build service managing warm executor daemons.
+ *
+ * <p>Each daemon is a JVM started ahead of time with the executor's class path, waiting for a
+ * single run. Daemons are tracked through port files under the state directory, grouped by the
+ * task using them and keyed on a hash of the class path, JVM arguments and environment, so they
+ * outlive the build that started them. When a run claims a daemon, a replacement is started for
+ * the next run. Unclaimed daemons of the same task with a different key are shut down, as the task
+ * has moved on and they will not be used. Daemons of other tasks are left alone.
+ */
+public abstract class ExecutorDaemons implements BuildService<ExecutorDaemons.Params> {
+
+    private static final Logger LOGGER = Logging.getLogger(ExecutorDaemons.class);
+
+    private static final Duration STARTUP_TIMEOUT = Duration.ofMinutes(2);
+    private static final int CONNECT_TIMEOUT_MS = 5_000;
+    private static final String PORT_SUFFIX = ".port";
+    private static final String STARTING_SUFFIX = ".starting";
+
+    /** Parameters of the service. */
+    public interface Params extends BuildServiceParameters {
+
+        /**
+         * @return the directory under which daemon port files are stored.
+         */
+        DirectoryProperty getStateDirectory();
+    }
+
+    /** Constructor. */
+    public ExecutorDaemons() {}
+
+    /**
+     * Run the executor in a warm daemon, starting one if none is available.
+     *
+     * @param spec the daemon required.
+     * @param args the executor's arguments.
+     * @param stdout where to write the executor's standard output.
+     * @param stderr where to write the executor's standard error.
+     * @return the executor's exit code, or {@link #exitCodeUnknown()} if it exited the JVM.
+     */
+    public int run(
+            final DaemonSpec spec,
+            final List<String> args,
+            final OutputStream stdout,
+            final OutputStream stderr) {
+        final Connection connection = acquire(spec);
+        try {
+            return connection.run(args, stdout, stderr);
+        } catch (final IOException e) {
+            throw new GradleException("Failed to run system tests in executor daemon", e);
+        } finally {
+            connection.close();
+        }
+    }
+
+    /**
+     * @return the exit code returned by {@link #run} when the executor exited the JVM.
+     */
+    public static int exitCodeUnknown() {
+        return DaemonProtocol.EXIT_UNKNOWN;
+    }
+
+    private synchronized Connection acquire(final DaemonSpec spec) {
+        final Path ownerDir =
+                getParameters()
+                        .getStateDirectory()
+                        .get()
+                        .getAsFile()
+                        .toPath()
+                        .resolve(spec.ownerKey());
+        final String key = spec.key();
+        final Path keyDir = ownerDir.resolve(key);
+
+        stopStaleDaemons(ownerDir, key);
+
+        Optional<Connection> connection = claimAny(keyDir);
+        if (connection.isPresent()) {
+            LOGGER.info("Using warm system test executor daemon");
+        } else {
+            LOGGER.info("Starting system test executor daemon");
+            connection = claim(awaitStart(spec, keyDir));
+        }
+
+        startSpare(spec, keyDir);
+
+        return connection.orElseThrow(
+                () -> new GradleException("Failed to connect to system test executor daemon"));
+    }
+
+    private void startSpare(final DaemonSpec spec, final Path keyDir) {
+        if (!pendingFiles(keyDir).isEmpty()) {
+            return;
+        }
+
+        LOGGER.debug("Starting spare system test executor daemon");
+        start(spec, keyDir);
+    }
+
+    private static void stopStaleDaemons(final Path ownerDir, final String key) {
+        if (!Files.isDirectory(ownerDir)) {
+            return;
+        }
+
+        for (final Path dir : list(ownerDir)) {
+            if (!Files.isDirectory(dir) || dir.getFileName().toString().equals(key)) {
+                continue;
+            }
+
+            LOGGER.info("Stopping stale system test executor daemon(s) in " + dir);
+            Optional<Connection> stale;
+            while ((stale = claimAny(dir)).isPresent()) {
+                stale.get().stop();
+            }
+            deleteDirectory(dir);
+        }
+    }
+
+    private static Optional<Connection> claimAny(final Path keyDir) {
+        if (!Files.isDirectory(keyDir)) {
+            return Optional.empty();
+        }
+
+        for (final Path portFile : list(keyDir)) {
+            if (portFile.getFileName().toString().endsWith(PORT_SUFFIX)) {
+                final Optional<Connection> connection = claim(portFile);
+                if (connection.isPresent()) {
+                    return connection;
+                }
+            }
+        }
+        return Optional.empty();
+    }
+
+    /** Claim a daemon by atomically renaming its port file, so no other build can use it. */
+    private static Optional<Connection> claim(final Path portFile) {
+        final Path claimed = portFile.resolveSibling(portFile.getFileName() + ".claimed");
+        try {
+            Files.move(portFile, claimed, StandardCopyOption.ATOMIC_MOVE);
+        } catch (final FileSystemException e) {
+            return Optional.empty();
+        } catch (final IOException e) {
+            throw new UncheckedIOException("Failed to claim executor daemon " + portFile, e);
+        }
+
+        final Properties props = DaemonProtocol.readPortFile(claimed);
+        final Socket socket = new Socket();
+        try {
+            socket.connect(
+                    new InetSocketAddress(
+                            InetAddress.getLoopbackAddress(),
+                            Integer.parseInt(props.getProperty("port", "0"))),
+                    CONNECT_TIMEOUT_MS);
+            return Optional.of(new Connection(socket, props.getProperty("token", ""), claimed));
+        } catch (final IOException | IllegalArgumentException e) {
+            LOGGER.debug("Discarding unreachable executor daemon " + portFile, e);
+            closeQuietly(socket);
+            deleteQuietly(claimed);
+            return Optional.empty();
+        }
+    }
+
+    private static Path awaitStart(final DaemonSpec spec, final Path keyDir) {
+        final Started started = start(spec, keyDir);
+        final Instant deadline = Instant.now().plus(STARTUP_TIMEOUT);
+        while (!Files.exists(started.portFile)) {
+            if (!started.process.isAlive()) {
+                throw new GradleException(
+                        "System test executor daemon failed to start. See "
+                                + keyDir.resolve("daemon.log"));
+            }
+            if (Instant.now().isAfter(deadline)) {
+                started.process.destroyForcibly();
+                throw new GradleException("Timed out waiting for system test executor daemon");
+            }
+            sleep();
+        }
+        return started.portFile;
+    }
+
+    @SuppressFBWarnings(
+            value = "COMMAND_INJECTION",
+            justification = "The command is built from the build's own configuration")
+    private static Started start(final DaemonSpec spec, final Path keyDir) {
+        final String id = UUID.randomUUID().toString();
+        final Path portFile = keyDir.resolve(id + PORT_SUFFIX);
+        final Path startingFile = keyDir.resolve(id + STARTING_SUFFIX);
+
+        final List<String> command = new ArrayList<>();
+        command.add(Jvm.javaExecutable().toString());
+        command.addAll(spec.jvmArgs());
+        command.add("-cp");
+        command.add(classPath(spec));
+        command.add(ExecutorDaemonMain.class.getName());
+        command.add(portFile.toString());
+        command.add(startingFile.toString());
+        command.add(String.valueOf(spec.idleTimeout().toSeconds()));
+        command.add(spec.mainClass());
+
+        try {
+            Files.createDirectories(keyDir);
+            Files.createFile(startingFile);
+            final ProcessBuilder builder =
+                    new ProcessBuilder(command)
+                            .directory(spec.workingDir().toFile())
+                            .redirectErrorStream(true)
+                            .redirectOutput(
+                                    ProcessBuilder.Redirect.appendTo(
+                                            keyDir.resolve("daemon.log").toFile()));
+            builder.environment().clear();
+            builder.environment().putAll(spec.environment());
+            return new Started(builder.start(), portFile);
+        } catch (final IOException e) {
+            deleteQuietly(startingFile);
+            throw new UncheckedIOException("Failed to start system test executor daemon", e);
+        }
+    }
+
+    /**
+     * @return the port files of unclaimed daemons, and the startup markers of daemons still
+     *     starting.
+     */
+    private static List<Path> pendingFiles(final Path keyDir) {
+        final Instant startedAfter = Instant.now().minus(STARTUP_TIMEOUT);
+        return list(keyDir).stream()
+                .filter(
+                        file -> {
+                            final String name = file.getFileName().toString();
+                            return name.endsWith(PORT_SUFFIX)
+                                    || name.endsWith(STARTING_SUFFIX)
+                                            && modifiedAfter(file, startedAfter);
+                        })
+                .collect(Collectors.toList());
+    }
+
+    private static String classPath(final DaemonSpec spec) {
+        final List<String> entries = new ArrayList<>();
+        entries.add(pluginLocation().toString());
+        spec.classPath().forEach(file -> entries.add(file.getAbsolutePath()));
+        return String.join(File.pathSeparator, entries);
+    }
+
+    private static Path pluginLocation() {
+        try {
+            return Path.of(
+                    ExecutorDaemonMain.class
+                            .getProtectionDomain()
+                            .getCodeSource()
+                            .getLocation()
+                            .toURI());
+        } catch (final URISyntaxException e) {
+            throw new IllegalStateException("Failed to locate plugin classes", e);
+        }
+    }
+
+    private static boolean modifiedAfter(final Path file, final Instant instant) {
+        try {
+            return Files.getLastModifiedTime(file).toInstant().isAfter(instant);
+        } catch (final IOException e) {
+            return false;
+        }
+    }
+
+    private static List<Path> list(final Path dir) {
+        if (!Files.isDirectory(dir)) {
+            return List.of();
+        }
+
+        try (Stream<Path> files = Files.list(dir)) {
+            return files.sorted().collect(Collectors.toList());
+        } catch (final IOException e) {
+            throw new UncheckedIOException("Failed to list " + dir, e);
+        }
+    }
+
+    private static void deleteDirectory(final Path dir) {
+        list(dir).forEach(ExecutorDaemons::deleteQuietly);
+        deleteQuietly(dir);
+    }
+
+    private static void deleteQuietly(final Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (final IOException e) {
+            LOGGER.debug("Failed to delete " + path, e);
+        }
+    }
+
+    private static void closeQuietly(final Socket socket) {
+        try {
+            socket.close();
+        } catch (final IOException e) {
+            LOGGER.debug("Failed to close socket", e);
+        }
+    }
+
+    private static void sleep() {
+        try {
+            Thread.sleep(50);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new GradleException("Interrupted waiting for system test executor daemon", e);
+        }
+    }
+
+    private static final class Started {
+        final Process process;
+        final Path portFile;
+
+        Started(final Process process, final Path portFile) {
+            this.process = process;
+            this.portFile = portFile;
+        }
+    }
+
+    private static final class Connection {
+
+        private final Socket socket;
+        private final String token;
+        private final Path claimedFile;
+
+        Connection(final Socket socket, final String token, final Path claimedFile) {
+            this.socket = socket;
+            this.token = token;
+            this.claimedFile = claimedFile;
+        }
+
+        int run(final List<String> args, final OutputStream stdout, final OutputStream stderr)
+                throws IOException {
+            send(DaemonProtocol.RUN, args);
+            return DaemonProtocol.pump(
+                    new DataInputStream(new BufferedInputStream(socket.getInputStream())),
+                    stdout,
+                    stderr);
+        }
+
+        void stop() {
+            try {
+                send(DaemonProtocol.STOP, List.of());
+            } catch (final IOException e) {
+                LOGGER.debug("Failed to stop executor daemon", e);
+            } finally {
+                close();
+            }
+        }
+
+        void close() {
+            closeQuietly(socket);
+            deleteQuietly(claimedFile);
+        }
+
+        private void send(final String command, final List<String> args) throws IOException {
+            DaemonProtocol.writeRequest(
+                    new DataOutputStream(new BufferedOutputStream(socket.getOutputStream())),
+                    new DaemonProtocol.Request(token, command, args));
+        }
+    }
+}
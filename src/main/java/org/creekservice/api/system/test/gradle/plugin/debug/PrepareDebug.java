@@ -26,13 +26,17 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Optional;
+import java.util.stream.Stream;
 import javax.inject.Inject;
 import org.gradle.api.DefaultTask;
 import org.gradle.api.Project;
 import org.gradle.api.file.Directory;
 import org.gradle.api.file.DirectoryProperty;
-import org.gradle.api.file.FileTree;
-import org.gradle.api.tasks.InputDirectory;
+import org.gradle.api.file.RegularFile;
+import org.gradle.api.file.RegularFileProperty;
+import org.gradle.api.provider.Property;
+import org.gradle.api.provider.Provider;
+import org.gradle.api.tasks.InputFile;
 import org.gradle.api.tasks.Internal;
 import org.gradle.api.tasks.OutputDirectory;
 import org.gradle.api.tasks.PathSensitive;
@@ -40,7 +44,12 @@ import org.gradle.api.tasks.PathSensitivity;
 import org.gradle.api.tasks.TaskAction;
 import org.gradle.work.DisableCachingByDefault;
 
-/** Task for setting up a mount directory storing the AttachMe debug agent. */
+/**
+ * Task for setting up a mount directory storing the AttachMe debug agent.
+ *
+ * <p>The task is skipped when no services are being debugged. Otherwise, the newest agent jar is
+ * resolved when the task runs, and the task is up-to-date while that jar's content is unchanged.
+ */
 @DisableCachingByDefault(because = "output is machine specific")
 public abstract class PrepareDebug extends DefaultTask {
 
@@ -65,35 +74,67 @@ public abstract class PrepareDebug extends DefaultTask {
         getMountDirectory()
                 .convention(project.getLayout().getBuildDirectory().dir(HOST_MOUNT_DIR + "debug"));
 
+        getAgentJar().convention(getAttachMeDirectory().map(PrepareDebug::findAgentJar));
+
+        onlyIf(t -> getDebugEnabled().getOrElse(true));
         onlyIf(t -> getAttachMeDirectory().get().getAsFile().exists());
     }
 
+    /**
+     * Whether any services are being debugged.
+     *
+     * <p>All file work is skipped when nothing is being debugged.
+     *
+     * @return the debug enabled property.
+     */
+    @Internal
+    public abstract Property<Boolean> getDebugEnabled();
+
     /**
      * @return the local directory where the AttachMe agent is located.
      */
-    @InputDirectory
-    @PathSensitive(PathSensitivity.NONE)
+    @Internal
     public abstract DirectoryProperty getAttachMeDirectory();
 
+    /**
+     * The AttachMe agent jar to mount.
+     *
+     * <p>Defaults to the newest agent jar in the {@link #getAttachMeDirectory() AttachMe
+     * directory}.
+     *
+     * @return the agent jar, which is absent if no agent jar was found.
+     */
+    @InputFile
+    @org.gradle.api.tasks.Optional
+    @PathSensitive(PathSensitivity.NONE)
+    public abstract RegularFileProperty getAgentJar();
+
     /**
      * @return The directory under which the JaCoCo agent jar should be stored.
      */
     @OutputDirectory
     public abstract DirectoryProperty getMountDirectory();
 
+    /**
+     * The agent jar in the {@link #getMountDirectory() mount directory}.
+     *
+     * <p>Resolved from the task's output when read, so reflects the jar the task mounted.
+     *
+     * @return the mounted agent jar, which is absent if no agent jar was mounted.
+     */
+    @Internal
+    public Provider<RegularFile> getMountedAgentJar() {
+        return getMountDirectory().map(PrepareDebug::findAgentJar);
+    }
+
     /**
      * @return the agent jar filename, relative to the {@link #getMountDirectory() mount directory},
      *     if present.
      */
     @Internal
     public Optional<Path> getAgentJarFileName() {
-        final Directory dir = getMountDirectory().get();
-        final FileTree files = dir.getAsFileTree();
-        if (files.isEmpty()) {
-            return Optional.empty();
-        }
-
-        return Optional.of(dir.getAsFile().toPath().relativize(files.getSingleFile().toPath()));
+        return Optional.ofNullable(getMountedAgentJar().getOrNull())
+                .map(jar -> Paths.get(jar.getAsFile().getName()));
     }
 
     /**
@@ -103,21 +144,32 @@ public abstract class PrepareDebug extends DefaultTask {
      */
     @TaskAction
     public void run() throws IOException {
-        final Path attachMeDir = getAttachMeDirectory().get().getAsFile().toPath().toAbsolutePath();
         final Path mountDir = getMountDirectory().get().getAsFile().toPath().toAbsolutePath();
         createMountDir(mountDir);
-        copyAgentJar(mountDir, attachMeDir);
+        copyAgentJar(mountDir);
     }
 
     private void createMountDir(final Path mountDir) throws IOException {
         Files.createDirectories(mountDir);
     }
 
-    private void copyAgentJar(final Path mountDir, final Path attachMeDir) throws IOException {
-        final Optional<Path> maybeAgent = findAttacheMeAgentJar(attachMeDir);
-        if (maybeAgent.isPresent()) {
-            final Path agentJar = maybeAgent.get();
+    private void copyAgentJar(final Path mountDir) throws IOException {
+        // Remove any previously mounted agent, which may be a different version:
+        try (Stream<Path> existing = Files.list(mountDir)) {
+            for (final Path file : existing.toArray(Path[]::new)) {
+                Files.delete(file);
+            }
+        }
+
+        if (getAgentJar().isPresent()) {
+            final Path agentJar = getAgentJar().get().getAsFile().toPath();
             Files.copy(agentJar, mountDir.resolve(agentJar.getFileName()), REPLACE_EXISTING);
         }
     }
+
+    private static RegularFile findAgentJar(final Directory dir) {
+        return findAttacheMeAgentJar(dir.getAsFile().toPath())
+                .map(jar -> dir.file(String.valueOf(jar.getFileName())))
+                .orElse(null);
+    }
 }
@@ -0,0 +1,151 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.creekservice.api.system.test.gradle.plugin.launcher;
+
+import static org.creekservice.api.system.test.gradle.plugin.SystemTestPlugin.GROUP_NAME;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.Set;
+import java.util.jar.Attributes;
+import java.util.jar.JarOutputStream;
+import java.util.jar.Manifest;
+import java.util.stream.Collectors;
+import javax.inject.Inject;
+import org.gradle.api.DefaultTask;
+import org.gradle.api.Project;
+import org.gradle.api.file.ConfigurableFileCollection;
+import org.gradle.api.file.RegularFileProperty;
+import org.gradle.api.provider.Property;
+import org.gradle.api.tasks.Classpath;
+import org.gradle.api.tasks.Internal;
+import org.gradle.api.tasks.OutputFile;
+import org.gradle.api.tasks.TaskAction;
+import org.gradle.work.DisableCachingByDefault;
+
+/**
+ * Task for writing a pathing jar, from which the system test executor is launched.
+ *
+ * <p>The jar contains only a manifest, whose {@code Class-Path} lists the jars of the executor,
+ * its extensions and the components under test. Launching the executor with just this jar on the
+ * class path keeps the command line short, however many components there are.
+ *
+ * <p>The jar is only rewritten when the class path changes. The task is skipped unless the pathing
+ * jar is enabled.
+ */
+@DisableCachingByDefault(because = "manifest contains machine specific paths")
+public abstract class LauncherJar extends DefaultTask {
+
+    /**
+     * Create task
+     *
+     * @param project the project being configured.
+     */
+    @Inject
+    public LauncherJar(final Project project) {
+        setGroup(GROUP_NAME);
+        setDescription("Writes a pathing jar for launching the system test executor");
+
+        getLauncherJar()
+                .convention(
+                        project.getLayout()
+                                .getBuildDirectory()
+                                .file("creek/launcher/executor-launcher.jar"));
+
+        onlyIf(t -> getPathingJarEnabled().getOrElse(true));
+    }
+
+    /**
+     * Whether the system test executor is launched from a pathing jar.
+     *
+     * @return the enabled property.
+     */
+    @Internal
+    public abstract Property<Boolean> getPathingJarEnabled();
+
+    /**
+     * @return the executor class path: the executor, its extensions and the components under test.
+     */
+    @Classpath
+    public abstract ConfigurableFileCollection getClassPath();
+
+    /**
+     * @return the pathing jar to write.
+     */
+    @OutputFile
+    public abstract RegularFileProperty getLauncherJar();
+
+    /**
+     * The class path to launch the executor with.
+     *
+     * @param pathingJar whether the executor is launched from a pathing jar.
+     * @param launcherJar the pathing jar.
+     * @param classPath the full executor class path.
+     * @return {@code launcherJar} if {@code pathingJar} is set, otherwise {@code classPath}.
+     */
+    public static Set<File> launchClassPath(
+            final boolean pathingJar, final File launcherJar, final Set<File> classPath) {
+        return pathingJar ? Set.of(launcherJar) : classPath;
+    }
+
+    /**
+     * Run the task.
+     *
+     * @throws IOException on failed file operations
+     */
+    @TaskAction
+    public void run() throws IOException {
+        final Path jar = getLauncherJar().get().getAsFile().toPath().toAbsolutePath();
+        Files.createDirectories(jar.getParent());
+
+        final Manifest manifest = new Manifest();
+        final Attributes attributes = manifest.getMainAttributes();
+        attributes.put(Attributes.Name.MANIFEST_VERSION, "1.0");
+        attributes.put(
+                Attributes.Name.CLASS_PATH, classPathAttribute(jar, getClassPath().getFiles()));
+
+        try (JarOutputStream out = new JarOutputStream(Files.newOutputStream(jar), manifest)) {
+            out.finish();
+        }
+    }
+
+    private static String classPathAttribute(final Path jar, final Collection<File> classPath) {
+        return classPath.stream()
+                .map(file -> classPathEntry(jar.getParent(), file))
+                .collect(Collectors.joining(" "));
+    }
+
+    /**
+     * Entries are URLs relative to the pathing jar where possible, e.g. {@code
+     * ../../../lib/a.jar}, or absolute {@code file:} URLs where not, e.g. on another drive.
+     * Directories must end with a slash.
+     */
+    private static String classPathEntry(final Path jarDir, final File file) {
+        final Path path = file.toPath().toAbsolutePath();
+        final String suffix = Files.isDirectory(path) ? "/" : "";
+        try {
+            final String relative = jarDir.relativize(path).toString().replace('\\', '/');
+            return new URI(null, null, relative, null).getRawPath() + suffix;
+        } catch (final IllegalArgumentException | URISyntaxException e) {
+            return path.toUri().toString();
+        }
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.system.test.gradle.plugin.test;
+
+import static java.util.Objects.requireNonNull;
+
+/** The result of a single test case, as read from a JUnit style result file. */
+final class CaseResult {
+
+    /** The outcome of a test case. */
+    enum Outcome {
+        PASSED,
+        FAILED,
+        SKIPPED
+    }
+
+    private final String name;
+    private final double timeSeconds;
+    private final Outcome outcome;
+    private final String message;
+    private final String details;
+
+    CaseResult(
+            final String name,
+            final double timeSeconds,
+            final Outcome outcome,
+            final String message,
+            final String details) {
+        this.name = requireNonNull(name, "name");
+        this.timeSeconds = timeSeconds;
+        this.outcome = requireNonNull(outcome, "outcome");
+        this.message = requireNonNull(message, "message");
+        this.details = requireNonNull(details, "details");
+    }
+
+    /**
+     * @return the name of the test case.
+     */
+    String name() {
+        return name;
+    }
+
+    /**
+     * @return how long the test case took to run, in seconds.
+     */
+    double timeSeconds() {
+        return timeSeconds;
+    }
+
+    /**
+     * @return the outcome of the test case.
+     */
+    Outcome outcome() {
+        return outcome;
+    }
+
+    /**
+     * @return the failure message, or an empty string if the test case did not fail.
+     */
+    String message() {
+        return message;
+    }
+
+    /**
+     * @return the failure details, or an empty string if the test case did not fail.
+     */
+    String details() {
+        return details;
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.system.test.gradle.plugin.test;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.reflect.InvocationTargetException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.OptionalInt;
+import org.gradle.api.GradleException;
+import org.gradle.api.file.RegularFileProperty;
+import org.gradle.api.provider.ListProperty;
+import org.gradle.api.provider.Property;
+import org.gradle.workers.WorkAction;
+import org.gradle.workers.WorkParameters;
+
+/**
+ * Runs the system test executor within a Gradle worker daemon.
+ *
+ * <p>The executor's exit code is written to a file once its main method returns. Where the
+ * executor exits the JVM, no exit code is written.
+ */
+public abstract class ExecutorWork implements WorkAction<ExecutorWork.Parameters> {
+
+    /** Parameters of the work. */
+    public interface Parameters extends WorkParameters {
+
+        /**
+         * @return the executor's main class.
+         */
+        Property<String> getMainClass();
+
+        /**
+         * @return the executor's arguments.
+         */
+        ListProperty<String> getArguments();
+
+        /**
+         * @return the file to write the executor's exit code to.
+         */
+        RegularFileProperty getExitCodeFile();
+    }
+
+    @Override
+    public void execute() {
+        final Parameters params = getParameters();
+        final String[] args = params.getArguments().get().toArray(String[]::new);
+
+        int exitCode;
+        try {
+            Class.forName(params.getMainClass().get(), true, classLoader())
+                    .getMethod("main", String[].class)
+                    .invoke(null, (Object) args);
+            exitCode = 0;
+        } catch (final InvocationTargetException e) {
+            // Mirror the JVM's handling of an exception escaping main:
+            e.getCause().printStackTrace();
+            exitCode = 1;
+        } catch (final ReflectiveOperationException e) {
+            throw new GradleException("Failed to start system test executor", e);
+        }
+
+        writeExitCode(params.getExitCodeFile().getAsFile().get().toPath(), exitCode);
+    }
+
+    /**
+     * Read the exit code written by a unit of work.
+     *
+     * @param file the exit code file.
+     * @return the exit code, if one was written.
+     */
+    static OptionalInt readExitCode(final Path file) {
+        try {
+            return Files.exists(file)
+                    ? OptionalInt.of(Integer.parseInt(Files.readString(file, UTF_8).trim()))
+                    : OptionalInt.empty();
+        } catch (final IOException | NumberFormatException e) {
+            return OptionalInt.empty();
+        }
+    }
+
+    private static void writeExitCode(final Path file, final int exitCode) {
+        try {
+            Files.createDirectories(file.toAbsolutePath().getParent());
+            Files.writeString(file, String.valueOf(exitCode), UTF_8);
+        } catch (final IOException e) {
+            throw new UncheckedIOException("Failed to write executor exit code to " + file, e);
+        }
+    }
+
+    private static ClassLoader classLoader() {
+        final ClassLoader context = Thread.currentThread().getContextClassLoader();
+        return context == null ? ExecutorWork.class.getClassLoader() : context;
+    }
+}
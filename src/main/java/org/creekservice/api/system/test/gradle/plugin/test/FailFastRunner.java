@@ -0,0 +1,263 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.system.test.gradle.plugin.test;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.creekservice.api.system.test.gradle.plugin.util.Jvm;
+import org.gradle.api.GradleException;
+import org.gradle.api.logging.Logger;
+
+/**
+ * Runs executor processes, stopping all of them as soon as any suite fails.
+ *
+ * <p>The result directory of each process is polled for result files reporting a failed suite. Each
+ * result file is only read once it is new or has changed since the last poll. Processes are
+ * stopped gracefully, giving the executor the chance to clean up any containers, and
+ * any result files left incomplete are removed, so that the result directories remain readable.
+ */
+final class FailFastRunner {
+
+    private static final Duration POLL_INTERVAL = Duration.ofMillis(500);
+    private static final Duration STOP_GRACE_PERIOD = Duration.ofSeconds(30);
+    private static final Duration OUTPUT_DRAIN_TIMEOUT = Duration.ofSeconds(10);
+
+    private final Logger logger;
+    private final Path workingDir;
+
+    /**
+     * @param logger the task's logger.
+     * @param workingDir the working directory of the executor processes.
+     */
+    FailFastRunner(final Logger logger, final Path workingDir) {
+        this.logger = logger;
+        this.workingDir = workingDir;
+    }
+
+    /**
+     * Build the command to run the executor in its own JVM.
+     *
+     * @param mainClass the executor's main class.
+     * @param classPath the executor's class path.
+     * @param jvmArgs the JVM arguments.
+     * @param args the executor's arguments.
+     * @return the command.
+     */
+    static List<String> javaCommand(
+            final String mainClass,
+            final Set<File> classPath,
+            final List<String> jvmArgs,
+            final List<String> args) {
+        final List<String> command = new ArrayList<>();
+        command.add(Jvm.javaExecutable().toString());
+        command.addAll(jvmArgs);
+        command.add("-cp");
+        command.add(
+                classPath.stream()
+                        .map(File::getAbsolutePath)
+                        .collect(Collectors.joining(File.pathSeparator)));
+        command.add(mainClass);
+        command.addAll(args);
+        return command;
+    }
+
+    /**
+     * Run the commands in parallel, until all complete or a suite fails.
+     *
+     * @param commands the commands to run.
+     * @param resultDirs the result directory of each command.
+     * @param since only result files modified at or after this instant are checked for failures.
+     * @return the exit code of each command.
+     */
+    List<Integer> run(
+            final List<List<String>> commands, final List<Path> resultDirs, final Instant since) {
+        final List<Process> processes = new ArrayList<>(commands.size());
+        final List<Thread> forwarders = new ArrayList<>(commands.size() * 2);
+        final Map<Path, Instant> checked = new HashMap<>();
+        try {
+            for (final List<String> command : commands) {
+                processes.add(start(command, forwarders));
+            }
+
+            Optional<String> failed = Optional.empty();
+            Instant stopDeadline = Instant.MAX;
+            while (processes.stream().anyMatch(Process::isAlive)) {
+                if (failed.isEmpty()) {
+                    failed = firstFailure(resultDirs, since, checked);
+                    if (failed.isPresent()) {
+                        logger.lifecycle(
+                                "Suite '" + failed.get() + "' failed: stopping remaining suites");
+                        processes.forEach(FailFastRunner::stop);
+                        stopDeadline = Instant.now().plus(STOP_GRACE_PERIOD);
+                    }
+                } else if (Instant.now().isAfter(stopDeadline)) {
+                    processes.forEach(FailFastRunner::kill);
+                }
+                sleep();
+            }
+
+            if (failed.isPresent()) {
+                resultDirs.forEach(this::removeIncompleteResults);
+            }
+
+            final List<Integer> exitCodes = new ArrayList<>(processes.size());
+            for (final Process process : processes) {
+                exitCodes.add(process.waitFor());
+            }
+            awaitOutput(forwarders);
+            return exitCodes;
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new GradleException("Interrupted waiting for system tests to complete", e);
+        } finally {
+            processes.forEach(FailFastRunner::kill);
+        }
+    }
+
+    /**
+     * Wait for the output of the processes to be forwarded, so that it is not lost or interleaved
+     * with the task's own output.
+     *
+     * <p>The wait is bounded, as processes started by the executor may hold its output open.
+     */
+    private void awaitOutput(final List<Thread> forwarders) throws InterruptedException {
+        final Instant deadline = Instant.now().plus(OUTPUT_DRAIN_TIMEOUT);
+        for (final Thread forwarder : forwarders) {
+            final long remaining = Duration.between(Instant.now(), deadline).toMillis();
+            forwarder.join(Math.max(remaining, 1));
+            if (forwarder.isAlive()) {
+                logger.info("Timed out waiting for system test executor output");
+                return;
+            }
+        }
+    }
+
+    @SuppressFBWarnings(
+            value = "COMMAND_INJECTION",
+            justification = "The command is built from the build's own configuration")
+    private Process start(final List<String> command, final List<Thread> forwarders) {
+        try {
+            final Process process =
+                    new ProcessBuilder(command).directory(workingDir.toFile()).start();
+            forwarders.add(forward(process.getInputStream(), System.out));
+            forwarders.add(forward(process.getErrorStream(), System.err));
+            return process;
+        } catch (final IOException e) {
+            throw new UncheckedIOException("Failed to start system test executor", e);
+        }
+    }
+
+    /**
+     * Find a failed suite in any result file that is new or has changed since last checked.
+     *
+     * @param resultDirs the result directories.
+     * @param since only result files modified at or after this instant are read.
+     * @param checked the modification time of each complete result file already read, updated as
+     *     files are read.
+     * @return the name of a failed suite, if any.
+     */
+    private static Optional<String> firstFailure(
+            final List<Path> resultDirs, final Instant since, final Map<Path, Instant> checked) {
+        for (final Path dir : resultDirs) {
+            for (final Path file : ResultFiles.resultFilesWhileRunning(dir)) {
+                final Optional<Instant> modified = ResultFiles.lastModified(file);
+                if (modified.isEmpty()
+                        || modified.get().isBefore(since)
+                        || modified.get().equals(checked.get(file))) {
+                    continue;
+                }
+
+                final List<SuiteResult> results = JUnitResultReader.readSuiteFile(file);
+                if (!results.isEmpty()) {
+                    // Incomplete files have no results, and are read again once written:
+                    checked.put(file, modified.get());
+                }
+
+                final Optional<String> failed =
+                        results.stream()
+                                .filter(SuiteResult::failed)
+                                .map(SuiteResult::name)
+                                .findFirst();
+                if (failed.isPresent()) {
+                    return failed;
+                }
+            }
+        }
+        return Optional.empty();
+    }
+
+    private void removeIncompleteResults(final Path resultDir) {
+        try {
+            for (final Path file : ResultFiles.resultFiles(resultDir)) {
+                if (!JUnitResultReader.isReadable(file)) {
+                    logger.info("Removing incomplete result file " + file);
+                    Files.delete(file);
+                }
+            }
+        } catch (final IOException e) {
+            throw new UncheckedIOException("Failed to tidy result directory " + resultDir, e);
+        }
+    }
+
+    private static Thread forward(final InputStream from, final OutputStream to) {
+        final Thread thread =
+                new Thread(
+                        () -> {
+                            try {
+                                from.transferTo(to);
+                                to.flush();
+                            } catch (final IOException e) {
+                                // Process has gone away.
+                            }
+                        },
+                        "system-test-output");
+        thread.setDaemon(true);
+        thread.start();
+        return thread;
+    }
+
+    private static void stop(final Process process) {
+        process.descendants().forEach(ProcessHandle::destroy);
+        process.destroy();
+    }
+
+    private static void kill(final Process process) {
+        if (process.isAlive()) {
+            process.descendants().forEach(ProcessHandle::destroyForcibly);
+            process.destroyForcibly();
+        }
+    }
+
+    private static void sleep() throws InterruptedException {
+        Thread.sleep(POLL_INTERVAL.toMillis());
+    }
+}
@@ -0,0 +1,174 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.system.test.gradle.plugin.test;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+/**
+ * A run of only those suites that failed, or errored, in the previous run.
+ *
+ * <p>Failed suites are run into a staging directory. Once complete, the staged results replace
+ * those of the failed suites in the result directory, leaving the results of the other suites in
+ * place.
+ *
+ * <p>Suites are matched to their results by name. If any failed result can not be matched to a
+ * suite, e.g. because its name is not unique, all suites are re-run.
+ */
+final class FailedRerun implements PartialRun {
+
+    private final Path resultDir;
+    private final Path stagingDir;
+    private final List<String> toRun;
+    private final Set<String> failedNames;
+    private final Set<String> unmatchedNames;
+
+    private FailedRerun(
+            final Path testDir,
+            final Path resultDir,
+            final Path stagingDir,
+            final List<String> suites,
+            final Instant since) {
+        this.resultDir = resultDir;
+        this.stagingDir = stagingDir;
+        this.failedNames =
+                JUnitResultReader.readSuites(resultDir, since).stream()
+                        .filter(SuiteResult::failed)
+                        .map(SuiteResult::name)
+                        .collect(Collectors.toCollection(TreeSet::new));
+
+        final Map<String, String> suitesByName = SuiteFinder.suitesByName(testDir, suites);
+        this.unmatchedNames = new TreeSet<>(failedNames);
+        unmatchedNames.removeAll(suitesByName.keySet());
+
+        this.toRun =
+                unmatchedNames.isEmpty()
+                        ? failedNames.stream()
+                                .map(suitesByName::get)
+                                .sorted()
+                                .collect(Collectors.toList())
+                        : List.copyOf(suites);
+    }
+
+    /**
+     * Start a run of the suites that failed in the previous run.
+     *
+     * @param testDir the root directory containing test packages.
+     * @param resultDir the directory holding the results of the previous run.
+     * @param stagingDir the directory the failed suites should write their results to.
+     * @param suites the relative paths of all selected suites.
+     * @return the run.
+     */
+    static FailedRerun start(
+            final Path testDir,
+            final Path resultDir,
+            final Path stagingDir,
+            final List<String> suites) {
+        return start(testDir, resultDir, stagingDir, suites, Instant.EPOCH);
+    }
+
+    /**
+     * Start a run of the suites that failed in a run started at some point in time.
+     *
+     * @param testDir the root directory containing test packages.
+     * @param resultDir the directory holding the results of the run.
+     * @param stagingDir the directory the failed suites should write their results to.
+     * @param suites the relative paths of all selected suites.
+     * @param since only results written at or after this point are considered.
+     * @return the run.
+     */
+    static FailedRerun start(
+            final Path testDir,
+            final Path resultDir,
+            final Path stagingDir,
+            final List<String> suites,
+            final Instant since) {
+        ResultFiles.deleteDirectory(stagingDir);
+        return new FailedRerun(testDir, resultDir, stagingDir, suites, since);
+    }
+
+    @Override
+    public List<String> suitesToRun() {
+        return toRun;
+    }
+
+    /**
+     * @return the names of the suites that failed in the previous run.
+     */
+    Set<String> failedNames() {
+        return Set.copyOf(failedNames);
+    }
+
+    /**
+     * @return the names of failed suites that could not be matched to a suite file.
+     */
+    Set<String> unmatchedNames() {
+        return Set.copyOf(unmatchedNames);
+    }
+
+    /**
+     * Complete the run, replacing the earlier results of the re-run suites with the staged results.
+     *
+     * <p>Earlier results of suites without a staged result, e.g. because the run was stopped, are
+     * kept.
+     */
+    @Override
+    public void complete() {
+        if (!Files.isDirectory(stagingDir)) {
+            return;
+        }
+
+        final Set<String> stagedNames =
+                JUnitResultReader.readSuites(stagingDir).stream()
+                        .map(SuiteResult::name)
+                        .collect(Collectors.toSet());
+
+        removeReplacedResults(stagedNames);
+        ResultFiles.moveInto(stagingDir, resultDir);
+    }
+
+    private void removeReplacedResults(final Set<String> stagedNames) {
+        if (stagedNames.isEmpty()) {
+            return;
+        }
+
+        try {
+            for (final Path file : ResultFiles.resultFiles(resultDir)) {
+                if (covers(file, stagedNames)) {
+                    Files.delete(file);
+                }
+            }
+        } catch (final IOException e) {
+            throw new UncheckedIOException(
+                    "Failed to remove replaced results from " + resultDir, e);
+        }
+    }
+
+    private static boolean covers(final Path file, final Set<String> names) {
+        return JUnitResultReader.readSuiteFile(file).stream()
+                .map(SuiteResult::name)
+                .anyMatch(names::contains);
+    }
+}
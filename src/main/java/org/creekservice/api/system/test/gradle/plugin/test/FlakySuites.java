@@ -0,0 +1,76 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.system.test.gradle.plugin.test;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/** Tracks suites that failed, but passed when retried. */
+final class FlakySuites {
+
+    private final Map<String, Integer> passedOnAttempt = new TreeMap<>();
+
+    /**
+     * Record the suites that passed on an attempt.
+     *
+     * @param names the names of the suites that passed.
+     * @param attempt the attempt, where the initial run is attempt one.
+     */
+    void passed(final Set<String> names, final int attempt) {
+        names.forEach(name -> passedOnAttempt.putIfAbsent(name, attempt));
+    }
+
+    /**
+     * @return the names of the flaky suites.
+     */
+    Set<String> names() {
+        return Set.copyOf(passedOnAttempt.keySet());
+    }
+
+    /**
+     * Write the report, or delete any existing report if there are no flaky suites.
+     *
+     * @param file the file to write the report to.
+     */
+    void write(final Path file) {
+        try {
+            if (passedOnAttempt.isEmpty()) {
+                Files.deleteIfExists(file);
+                return;
+            }
+
+            final List<String> lines = new ArrayList<>();
+            lines.add("# Suites that failed, but passed when retried");
+            passedOnAttempt.forEach(
+                    (name, attempt) -> lines.add(name + ": passed on attempt " + attempt));
+
+            Files.createDirectories(file.toAbsolutePath().getParent());
+            Files.write(file, lines, UTF_8);
+        } catch (final IOException e) {
+            throw new UncheckedIOException("Failed to write flaky suite report to " + file, e);
+        }
+    }
+}
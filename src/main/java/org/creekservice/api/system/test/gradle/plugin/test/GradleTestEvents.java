@@ -0,0 +1,130 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.system.test.gradle.plugin.test;
+
+import java.time.Duration;
+import java.time.Instant;
+import javax.inject.Inject;
+import org.gradle.api.file.Directory;
+import org.gradle.api.tasks.testing.GroupTestEventReporter;
+import org.gradle.api.tasks.testing.TestEventReporter;
+import org.gradle.api.tasks.testing.TestEventReporterFactory;
+
+/**
+ * Reports suite results as Gradle test events, so that IDEs and build scans show progress as
+ * suites complete.
+ *
+ * <p>Requires Gradle 8.13 or later. Each suite is reported as a group of tests, with each of its
+ * test cases reported as a test. Nothing is reported until the first suite completes.
+ */
+public abstract class GradleTestEvents implements SuiteResultListener {
+
+    private final String rootName;
+    private final Directory binaryResultsDirectory;
+    private final Directory htmlReportDirectory;
+    private final Instant started;
+    private GroupTestEventReporter root;
+
+    /**
+     * @param rootName the name of the root of the reported tests, i.e. the task name.
+     * @param binaryResultsDirectory the directory Gradle stores the binary results in.
+     * @param htmlReportDirectory the directory Gradle writes the HTML test report to.
+     * @param started when the run started.
+     */
+    @Inject
+    public GradleTestEvents(
+            final String rootName,
+            final Directory binaryResultsDirectory,
+            final Directory htmlReportDirectory,
+            final Instant started) {
+        this.rootName = rootName;
+        this.binaryResultsDirectory = binaryResultsDirectory;
+        this.htmlReportDirectory = htmlReportDirectory;
+        this.started = started;
+    }
+
+    /**
+     * @return Gradle's test event reporter factory.
+     */
+    @Inject
+    protected abstract TestEventReporterFactory getTestEventReporterFactory();
+
+    @Override
+    public synchronized void suiteCompleted(final SuiteResult result, final Instant completed) {
+        if (root == null) {
+            root =
+                    getTestEventReporterFactory()
+                            .createTestEventReporter(
+                                    rootName, binaryResultsDirectory, htmlReportDirectory);
+            root.started(started);
+        }
+
+        Instant time = completed.minus(duration(result.timeSeconds()));
+        try (GroupTestEventReporter suite = root.reportTestGroup(result.name())) {
+            suite.started(time);
+            for (final CaseResult testCase : result.cases()) {
+                try (TestEventReporter test = suite.reportTest(testCase.name(), testCase.name())) {
+                    test.started(time);
+                    time = time.plus(duration(testCase.timeSeconds()));
+                    switch (testCase.outcome()) {
+                        case FAILED:
+                            test.failed(time, testCase.message(), testCase.details());
+                            break;
+                        case SKIPPED:
+                            test.skipped(time);
+                            break;
+                        default:
+                            test.succeeded(time);
+                            break;
+                    }
+                }
+            }
+
+            if (result.failed()) {
+                suite.failed(completed);
+            } else {
+                suite.succeeded(completed);
+            }
+        }
+    }
+
+    @Override
+    public synchronized void close(final boolean passed) {
+        if (root == null) {
+            return;
+        }
+
+        if (passed) {
+            root.succeeded(Instant.now());
+        } else {
+            root.failed(Instant.now());
+        }
+
+        try {
+            root.close();
+        } catch (final RuntimeException e) {
+            // Gradle fails the root of failed tests, but the task reports its own failure.
+            if (passed) {
+                throw e;
+            }
+        }
+    }
+
+    private static Duration duration(final double seconds) {
+        return Duration.ofMillis(Math.round(seconds * 1000));
+    }
+}
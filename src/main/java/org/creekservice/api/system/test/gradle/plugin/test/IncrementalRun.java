@@ -0,0 +1,177 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.system.test.gradle.plugin.test;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * A run of only those suites that have changed, or not passed, since they were last run.
+ *
+ * <p>Changed suites are run into a staging directory. Once complete, the staged results replace
+ * those of the re-run suites in the result directory, leaving the earlier results of unchanged
+ * suites in place.
+ */
+final class IncrementalRun implements PartialRun {
+
+    private final Path resultDir;
+    private final Path stagingDir;
+    private final Path fingerprintFile;
+    private final SuiteFingerprints stored;
+    private final Map<String, String> current;
+    private final Map<String, String> namesBySuite;
+    private final List<String> toRun;
+    private final Set<String> unchangedNames;
+
+    private IncrementalRun(
+            final Path testDir,
+            final Path resultDir,
+            final Path stagingDir,
+            final Path fingerprintFile,
+            final List<String> suites,
+            final String environment) {
+        this.resultDir = resultDir;
+        this.stagingDir = stagingDir;
+        this.fingerprintFile = fingerprintFile;
+        this.stored = SuiteFingerprints.load(fingerprintFile);
+        this.current = SuiteFingerprints.compute(testDir, suites, environment);
+        this.namesBySuite = new HashMap<>();
+        SuiteFinder.suitesByName(testDir, suites)
+                .forEach((name, suite) -> namesBySuite.put(suite, name));
+
+        final Set<String> passed =
+                JUnitResultReader.readSuites(resultDir).stream()
+                        .filter(result -> !result.failed())
+                        .map(SuiteResult::name)
+                        .collect(Collectors.toSet());
+
+        this.toRun = new ArrayList<>();
+        this.unchangedNames = new HashSet<>();
+        namesBySuite.forEach(
+                (suite, name) -> {
+                    if (passed.contains(name) && stored.matches(suite, current.get(suite))) {
+                        unchangedNames.add(name);
+                    }
+                });
+        suites.stream()
+                .filter(suite -> !unchangedNames.contains(namesBySuite.get(suite)))
+                .forEach(toRun::add);
+    }
+
+    /**
+     * Start an incremental run.
+     *
+     * @param testDir the root directory containing test packages.
+     * @param resultDir the directory holding the results of earlier runs.
+     * @param stagingDir the directory the changed suites should write their results to.
+     * @param fingerprintFile the file storing the fingerprints of suites that last passed.
+     * @param suites the relative paths of all selected suites.
+     * @param environment the fingerprint of the environment suites are run in.
+     * @return the run.
+     */
+    static IncrementalRun start(
+            final Path testDir,
+            final Path resultDir,
+            final Path stagingDir,
+            final Path fingerprintFile,
+            final List<String> suites,
+            final String environment) {
+        ResultFiles.deleteDirectory(stagingDir);
+        return new IncrementalRun(
+                testDir, resultDir, stagingDir, fingerprintFile, suites, environment);
+    }
+
+    /**
+     * @return the suites that need to be run, as they have changed or did not last pass.
+     */
+    @Override
+    public List<String> suitesToRun() {
+        return List.copyOf(toRun);
+    }
+
+    /**
+     * @return the number of suites that do not need to be run.
+     */
+    int unchangedCount() {
+        return current.size() - toRun.size();
+    }
+
+    /**
+     * Complete the run, merging the staged results into the result directory and storing the
+     * fingerprints of suites that passed.
+     */
+    @Override
+    public void complete() {
+        final Set<String> stagedPassed = new HashSet<>();
+        final Set<String> stagedFailed = new HashSet<>();
+        JUnitResultReader.readSuites(stagingDir)
+                .forEach(
+                        result ->
+                                (result.failed() ? stagedFailed : stagedPassed)
+                                        .add(result.name()));
+
+        for (final String suite : toRun) {
+            final String name = namesBySuite.get(suite);
+            if (name != null && stagedPassed.contains(name) && !stagedFailed.contains(name)) {
+                stored.record(suite, current.get(suite));
+            } else {
+                stored.remove(suite);
+            }
+        }
+
+        removeStaleResults();
+        ResultFiles.moveInto(stagingDir, resultDir);
+        stored.save(fingerprintFile);
+    }
+
+    /** Remove all results, except those only covering unchanged suites. */
+    private void removeStaleResults() {
+        if (!Files.isDirectory(resultDir)) {
+            return;
+        }
+
+        try (Stream<Path> paths = Files.walk(resultDir)) {
+            for (final Path file : paths.filter(Files::isRegularFile).toArray(Path[]::new)) {
+                if (!onlyUnchanged(file)) {
+                    Files.delete(file);
+                }
+            }
+        } catch (final IOException e) {
+            throw new UncheckedIOException("Failed to remove stale results from " + resultDir, e);
+        }
+    }
+
+    private boolean onlyUnchanged(final Path file) {
+        if (!ResultFiles.isResultFile(file)) {
+            return false;
+        }
+
+        final List<SuiteResult> results = JUnitResultReader.readSuiteFile(file);
+        return !results.isEmpty()
+                && results.stream().map(SuiteResult::name).allMatch(unchangedNames::contains);
+    }
+}
@@ -0,0 +1,248 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.system.test.gradle.plugin.test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+/**
+ * Reads the JUnit style XML result files written by the executor.
+ *
+ * <p>Files are streamed, and only the suite level summaries are read, so large result files are
+ * cheap to process.
+ */
+final class JUnitResultReader {
+
+    private static final XMLInputFactory XML_FACTORY = xmlInputFactory();
+
+    private JUnitResultReader() {}
+
+    /**
+     * Read the suite results from all result files in a directory.
+     *
+     * <p>Files that are not valid XML are ignored.
+     *
+     * @param resultDir the directory containing the result files.
+     * @return the suite results.
+     */
+    static List<SuiteResult> readSuites(final Path resultDir) {
+        return readSuites(resultDir, Instant.EPOCH);
+    }
+
+    /**
+     * Read the suite results from result files in a directory modified since some point in time.
+     *
+     * <p>Files that are not valid XML are ignored.
+     *
+     * @param resultDir the directory containing the result files.
+     * @param modifiedSince only files modified at or after this point are read.
+     * @return the suite results.
+     */
+    static List<SuiteResult> readSuites(final Path resultDir, final Instant modifiedSince) {
+        final List<SuiteResult> results = new ArrayList<>();
+        for (final Path file : ResultFiles.resultFiles(resultDir)) {
+            if (ResultFiles.lastModified(file)
+                    .filter(modified -> !modified.isBefore(modifiedSince))
+                    .isPresent()) {
+                results.addAll(readSuiteFile(file));
+            }
+        }
+        return results;
+    }
+
+    /**
+     * Determine whether any suite failed in a run, from the results written during it.
+     *
+     * <p>Only result files written since the run started are considered, so that results left
+     * over from earlier runs can not decide the outcome of this one.
+     *
+     * @param resultDir the directory containing the result files.
+     * @param runStart the point in time the run started.
+     * @return whether any suite failed, or empty if the run wrote no results.
+     */
+    static Optional<Boolean> anyFailed(final Path resultDir, final Instant runStart) {
+        final List<SuiteResult> results = readSuites(resultDir, runStart);
+        return results.isEmpty()
+                ? Optional.empty()
+                : Optional.of(results.stream().anyMatch(SuiteResult::failed));
+    }
+
+    /**
+     * Read the suite results from a single result file.
+     *
+     * @param file the result file.
+     * @return the suite results, or an empty list if the file is not valid XML.
+     */
+    static List<SuiteResult> readSuiteFile(final Path file) {
+        try (InputStream in = Files.newInputStream(file)) {
+            final XMLStreamReader reader = XML_FACTORY.createXMLStreamReader(in);
+            try {
+                return readSuites(reader);
+            } finally {
+                reader.close();
+            }
+        } catch (final XMLStreamException e) {
+            return List.of();
+        } catch (final IOException e) {
+            throw new UncheckedIOException("Failed to read result file " + file, e);
+        }
+    }
+
+    /**
+     * Check a result file is complete, well-formed, XML.
+     *
+     * @param file the result file.
+     * @return {@code true} if the file can be read.
+     */
+    static boolean isReadable(final Path file) {
+        try (InputStream in = Files.newInputStream(file)) {
+            final XMLStreamReader reader = XML_FACTORY.createXMLStreamReader(in);
+            try {
+                while (reader.hasNext()) {
+                    reader.next();
+                }
+                return true;
+            } finally {
+                reader.close();
+            }
+        } catch (final XMLStreamException | IOException e) {
+            return false;
+        }
+    }
+
+    private static List<SuiteResult> readSuites(final XMLStreamReader reader)
+            throws XMLStreamException {
+        final List<SuiteResult> results = new ArrayList<>(1);
+        while (reader.hasNext()) {
+            if (reader.next() == XMLStreamConstants.START_ELEMENT
+                    && "testsuite".equals(reader.getLocalName())) {
+                results.add(readSuite(reader));
+            }
+        }
+        return results;
+    }
+
+    private static SuiteResult readSuite(final XMLStreamReader reader)
+            throws XMLStreamException {
+        final String name = String.valueOf(reader.getAttributeValue(null, "name"));
+        final double time = parseDouble(reader.getAttributeValue(null, "time"));
+        final int tests = parseInt(reader.getAttributeValue(null, "tests"));
+        final int failures = parseInt(reader.getAttributeValue(null, "failures"));
+        final int errors = parseInt(reader.getAttributeValue(null, "errors"));
+        final int skipped = parseInt(reader.getAttributeValue(null, "skipped"));
+
+        final List<CaseResult> cases = new ArrayList<>();
+        CaseBuilder testCase = null;
+        int depth = 1;
+        while (depth > 0 && reader.hasNext()) {
+            final int event = reader.next();
+            if (event == XMLStreamConstants.END_ELEMENT) {
+                depth--;
+                if (testCase != null && "testcase".equals(reader.getLocalName())) {
+                    cases.add(testCase.build());
+                    testCase = null;
+                }
+                continue;
+            }
+
+            if (event != XMLStreamConstants.START_ELEMENT) {
+                continue;
+            }
+
+            depth++;
+            final String element = reader.getLocalName();
+            if ("testcase".equals(element)) {
+                testCase =
+                        new CaseBuilder(
+                                String.valueOf(reader.getAttributeValue(null, "name")),
+                                parseDouble(reader.getAttributeValue(null, "time")));
+            } else if (testCase != null && ("failure".equals(element) || "error".equals(element))) {
+                final String message = reader.getAttributeValue(null, "message");
+                testCase.failed(message == null ? "" : message, reader.getElementText());
+                depth--;
+            } else if (testCase != null && "skipped".equals(element)) {
+                testCase.skipped();
+            }
+        }
+
+        return new SuiteResult(name, time, tests, failures, errors, skipped, cases);
+    }
+
+    private static double parseDouble(final String value) {
+        try {
+            return value == null ? 0 : Double.parseDouble(value.replace(",", ""));
+        } catch (final NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    private static int parseInt(final String value) {
+        try {
+            return value == null ? 0 : Integer.parseInt(value);
+        } catch (final NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    private static XMLInputFactory xmlInputFactory() {
+        final XMLInputFactory factory = XMLInputFactory.newInstance();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        return factory;
+    }
+
+    private static final class CaseBuilder {
+
+        private final String name;
+        private final double timeSeconds;
+        private CaseResult.Outcome outcome = CaseResult.Outcome.PASSED;
+        private String message = "";
+        private String details = "";
+
+        CaseBuilder(final String name, final double timeSeconds) {
+            this.name = name;
+            this.timeSeconds = timeSeconds;
+        }
+
+        void failed(final String message, final String details) {
+            this.outcome = CaseResult.Outcome.FAILED;
+            this.message = message;
+            this.details = details.trim();
+        }
+
+        void skipped() {
+            if (outcome == CaseResult.Outcome.PASSED) {
+                this.outcome = CaseResult.Outcome.SKIPPED;
+            }
+        }
+
+        CaseResult build() {
+            return new CaseResult(name, timeSeconds, outcome, message, details);
+        }
+    }
+}
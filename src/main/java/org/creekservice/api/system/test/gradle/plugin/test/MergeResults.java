@@ -0,0 +1,116 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.system.test.gradle.plugin.test;
+
+import static org.creekservice.api.system.test.gradle.plugin.SystemTestPlugin.GROUP_NAME;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.creekservice.api.system.test.gradle.plugin.coverage.ExecutionDataFiles;
+import org.gradle.api.DefaultTask;
+import org.gradle.api.file.ConfigurableFileCollection;
+import org.gradle.api.file.DirectoryProperty;
+import org.gradle.api.file.RegularFileProperty;
+import org.gradle.api.tasks.InputFiles;
+import org.gradle.api.tasks.OutputDirectory;
+import org.gradle.api.tasks.OutputFile;
+import org.gradle.api.tasks.PathSensitive;
+import org.gradle.api.tasks.PathSensitivity;
+import org.gradle.api.tasks.TaskAction;
+import org.gradle.work.DisableCachingByDefault;
+
+/**
+ * Task for merging the results and coverage data of system tests run across several shards, e.g.
+ * on different build nodes, into a single result directory and a single execution data file.
+ */
+@DisableCachingByDefault(because = "Merging is cheaper than fetching from the cache")
+public abstract class MergeResults extends DefaultTask {
+
+    /** Create task */
+    public MergeResults() {
+        setGroup(GROUP_NAME);
+        setDescription("Merges system test results and coverage data from multiple shards");
+    }
+
+    /**
+     * @return the result directories to merge.
+     */
+    @InputFiles
+    @PathSensitive(PathSensitivity.RELATIVE)
+    public abstract ConfigurableFileCollection getResultDirectories();
+
+    /**
+     * @return the JaCoCo execution data files to merge.
+     */
+    @InputFiles
+    @PathSensitive(PathSensitivity.NONE)
+    public abstract ConfigurableFileCollection getExecutionData();
+
+    /**
+     * @return the directory to write the merged results to.
+     */
+    @OutputDirectory
+    public abstract DirectoryProperty getMergedResultDirectory();
+
+    /**
+     * @return the file to write the merged execution data to.
+     */
+    @OutputFile
+    public abstract RegularFileProperty getMergedExecutionData();
+
+    /**
+     * Run the task.
+     *
+     * @throws IOException on failed file operations
+     */
+    @TaskAction
+    public void run() throws IOException {
+        mergeResults();
+        mergeExecutionData();
+    }
+
+    private void mergeResults() throws IOException {
+        final Path target = getMergedResultDirectory().get().getAsFile().toPath();
+        ResultFiles.deleteDirectory(target);
+        Files.createDirectories(target);
+
+        for (final File dir : getResultDirectories().getFiles()) {
+            ResultFiles.copyInto(dir.toPath(), target);
+        }
+    }
+
+    private void mergeExecutionData() throws IOException {
+        final Path target = getMergedExecutionData().get().getAsFile().toPath();
+        final List<Path> sources =
+                getExecutionData().getFiles().stream()
+                        .map(File::toPath)
+                        .sorted()
+                        .collect(Collectors.toList());
+
+        if (sources.isEmpty()) {
+            Files.deleteIfExists(target);
+            return;
+        }
+
+        final int merged = ExecutionDataFiles.merge(sources, target);
+        getLogger().info("Merged {} execution data file(s) into {}", merged, target);
+    }
+}
@@ -0,0 +1,33 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.system.test.gradle.plugin.test;
+
+import java.util.List;
+
+/**
+ * A run of only some of the selected suites, whose results are merged with those of earlier runs.
+ */
+interface PartialRun {
+
+    /**
+     * @return the suites that need to be run.
+     */
+    List<String> suitesToRun();
+
+    /** Complete the run, merging the results of the suites that were run with earlier results. */
+    void complete();
+}
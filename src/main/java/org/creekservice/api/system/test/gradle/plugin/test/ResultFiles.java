@@ -0,0 +1,194 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.system.test.gradle.plugin.test;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/** Helpers for working with the result files written by the executor. */
+final class ResultFiles {
+
+    private ResultFiles() {}
+
+    /**
+     * Move the results from one directory into another.
+     *
+     * <p>Results are moved into the root of the {@code target} directory. Where a file of the same
+     * name already exists in the {@code target} directory, the moved file is given a {@link
+     * #uniqueName unique name}, so that no result is lost. The {@code source} directory is deleted
+     * once all results have been moved.
+     *
+     * @param source the directory to move results from.
+     * @param target the directory to move results into.
+     */
+    static void moveInto(final Path source, final Path target) {
+        transferInto(source, target, Files::move);
+        deleteDirectory(source);
+    }
+
+    /**
+     * Copy the results from one directory into another.
+     *
+     * <p>Results are copied into the root of the {@code target} directory. Where a file of the same
+     * name already exists in the {@code target} directory, the copied file is given a {@link
+     * #uniqueName unique name}, so that no result is lost.
+     *
+     * @param source the directory to copy results from.
+     * @param target the directory to copy results into.
+     */
+    static void copyInto(final Path source, final Path target) {
+        transferInto(source, target, Files::copy);
+    }
+
+    /**
+     * Remove a directory and everything in it, if it exists.
+     *
+     * @param dir the directory to delete.
+     */
+    static void deleteDirectory(final Path dir) {
+        if (!Files.exists(dir)) {
+            return;
+        }
+
+        try (Stream<Path> paths = Files.walk(dir)) {
+            for (final Path path : paths.sorted(Comparator.reverseOrder()).toArray(Path[]::new)) {
+                Files.delete(path);
+            }
+        } catch (final IOException e) {
+            throw new UncheckedIOException("Failed to delete " + dir, e);
+        }
+    }
+
+    /**
+     * Find the result files in a directory, recursively.
+     *
+     * @param dir the directory to search.
+     * @return the result files, sorted by path, or an empty list if the directory does not exist.
+     */
+    static List<Path> resultFiles(final Path dir) {
+        if (!Files.isDirectory(dir)) {
+            return List.of();
+        }
+
+        try (Stream<Path> paths = Files.walk(dir)) {
+            return paths.filter(Files::isRegularFile)
+                    .filter(ResultFiles::isResultFile)
+                    .sorted()
+                    .collect(Collectors.toList());
+        } catch (final IOException e) {
+            throw new UncheckedIOException("Failed to list result files in " + dir, e);
+        }
+    }
+
+    /**
+     * Find the result files in a directory that executors may be writing to, or results may be
+     * moved out of.
+     *
+     * @param dir the directory to search.
+     * @return the result files, sorted by path, or an empty list if the directory does not exist,
+     *     or changed while being searched, in which case the caller should try again later.
+     */
+    static List<Path> resultFilesWhileRunning(final Path dir) {
+        try {
+            return resultFiles(dir);
+        } catch (final UncheckedIOException e) {
+            return List.of();
+        }
+    }
+
+    /**
+     * @param file the file.
+     * @return {@code true} if the file is a result file, by name.
+     */
+    static boolean isResultFile(final Path file) {
+        return String.valueOf(file.getFileName()).endsWith(".xml");
+    }
+
+    /**
+     * @param file the file.
+     * @return the file's modification time, or empty if it could not be read, e.g. because the
+     *     file has been moved.
+     */
+    static Optional<Instant> lastModified(final Path file) {
+        try {
+            return Optional.of(Files.getLastModifiedTime(file).toInstant());
+        } catch (final IOException e) {
+            return Optional.empty();
+        }
+    }
+
+    private static void transferInto(
+            final Path source, final Path target, final Transfer transfer) {
+        if (!Files.isDirectory(source)) {
+            return;
+        }
+
+        try {
+            Files.createDirectories(target);
+            for (final Path file : regularFiles(source)) {
+                transfer.apply(file, uniqueName(file, target));
+            }
+        } catch (final IOException e) {
+            throw new UncheckedIOException(
+                    "Failed to transfer results from " + source + " to " + target, e);
+        }
+    }
+
+    /**
+     * Find a name for a file within a directory that is not already taken.
+     *
+     * <p>The file's own name is used if free. Otherwise, it is prefixed with the name of its parent
+     * directory, and then with a counter as well, e.g. {@code shard-1-TEST-a.xml}, {@code
+     * shard-1-2-TEST-a.xml}, until a free name is found.
+     *
+     * @param file the file being transferred.
+     * @param target the directory it is being transferred into.
+     * @return the path to transfer the file to.
+     */
+    private static Path uniqueName(final Path file, final Path target) {
+        final String name = String.valueOf(file.getFileName());
+        Path dest = target.resolve(name);
+        if (!Files.exists(dest)) {
+            return dest;
+        }
+
+        final String prefix = String.valueOf(file.getParent().getFileName());
+        dest = target.resolve(prefix + "-" + name);
+        for (int i = 2; Files.exists(dest); i++) {
+            dest = target.resolve(prefix + "-" + i + "-" + name);
+        }
+        return dest;
+    }
+
+    private static List<Path> regularFiles(final Path dir) throws IOException {
+        try (Stream<Path> paths = Files.walk(dir)) {
+            return paths.filter(Files::isRegularFile).sorted().collect(Collectors.toList());
+        }
+    }
+
+    private interface Transfer {
+        void apply(Path source, Path target) throws IOException;
+    }
+}
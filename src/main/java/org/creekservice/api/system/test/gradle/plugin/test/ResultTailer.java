@@ -0,0 +1,119 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.system.test.gradle.plugin.test;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import org.gradle.api.logging.Logger;
+
+/**
+ * Tails the result files written by executors, passing each suite's result to a listener as it
+ * completes.
+ *
+ * <p>Result files are polled from a background thread. Each suite result is only passed to the
+ * listener once, even if its result file is later moved, e.g. when merging shard results.
+ */
+final class ResultTailer {
+
+    private static final Duration POLL_INTERVAL = Duration.ofMillis(500);
+
+    private final List<Path> dirs;
+    private final Instant since;
+    private final SuiteResultListener listener;
+    private final Logger logger;
+    private final Set<String> seen = new HashSet<>();
+    private final Thread thread;
+    private volatile boolean running = true;
+
+    private ResultTailer(
+            final List<Path> dirs,
+            final Instant since,
+            final SuiteResultListener listener,
+            final Logger logger) {
+        this.dirs = List.copyOf(dirs);
+        this.since = since;
+        this.listener = listener;
+        this.logger = logger;
+        this.thread = new Thread(this::tail, "system-test-result-tailer");
+        this.thread.setDaemon(true);
+    }
+
+    /**
+     * Start tailing result files.
+     *
+     * @param dirs the directories to watch, recursively, for result files.
+     * @param since only result files modified at or after this instant are read.
+     * @param listener the listener to pass suite results to.
+     * @param logger the task's logger.
+     * @return the tailer.
+     */
+    static ResultTailer start(
+            final List<Path> dirs,
+            final Instant since,
+            final SuiteResultListener listener,
+            final Logger logger) {
+        final ResultTailer tailer = new ResultTailer(dirs, since, listener, logger);
+        tailer.thread.start();
+        return tailer;
+    }
+
+    /** Stop tailing, after passing on the results of any suites not yet seen. */
+    void stop() {
+        running = false;
+        thread.interrupt();
+        try {
+            thread.join();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        poll();
+    }
+
+    private void tail() {
+        while (running) {
+            try {
+                poll();
+                Thread.sleep(POLL_INTERVAL.toMillis());
+            } catch (final InterruptedException e) {
+                return;
+            } catch (final RuntimeException e) {
+                logger.debug("Failed to read result files", e);
+            }
+        }
+    }
+
+    private synchronized void poll() {
+        for (final Path dir : dirs) {
+            for (final Path file : ResultFiles.resultFilesWhileRunning(dir)) {
+                final Instant modified = ResultFiles.lastModified(file).orElse(Instant.MIN);
+                if (modified.isBefore(since)) {
+                    continue;
+                }
+
+                for (final SuiteResult result : JUnitResultReader.readSuiteFile(file)) {
+                    if (seen.add(result.name() + "@" + modified.toEpochMilli())) {
+                        listener.suiteCompleted(result, modified);
+                    }
+                }
+            }
+        }
+    }
+}
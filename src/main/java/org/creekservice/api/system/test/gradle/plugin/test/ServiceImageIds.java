@@ -0,0 +1,111 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.system.test.gradle.plugin.test;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import org.gradle.api.GradleException;
+import org.gradle.api.provider.ListProperty;
+import org.gradle.api.provider.Property;
+import org.gradle.api.provider.ValueSource;
+import org.gradle.api.provider.ValueSourceParameters;
+
+/**
+ * Resolves the IDs of the Docker images of the services under test from the local Docker daemon.
+ *
+ * <p>Used as an input of the {@link SystemTest} task, so that tests re-run when an image changes,
+ * but not when an identical image is rebuilt.
+ */
+public abstract class ServiceImageIds
+        implements ValueSource<Map<String, String>, ServiceImageIds.Params> {
+
+    /** The value used for images not known to the Docker daemon. */
+    public static final String MISSING_IMAGE = "missing";
+
+    private static final long TIMEOUT_SECONDS = 60;
+
+    /** Parameters of the value source. */
+    public interface Params extends ValueSourceParameters {
+
+        /**
+         * @return the names of the images to resolve.
+         */
+        ListProperty<String> getImages();
+
+        /**
+         * @return the Docker executable to use.
+         */
+        Property<String> getDockerExecutable();
+    }
+
+    /** Constructor. */
+    public ServiceImageIds() {}
+
+    @Override
+    public Map<String, String> obtain() {
+        final List<String> images = getParameters().getImages().get();
+        final Map<String, String> ids = new TreeMap<>();
+        if (images.isEmpty()) {
+            return ids;
+        }
+
+        final String docker = getParameters().getDockerExecutable().get();
+        images.forEach(image -> ids.put(image, imageId(docker, image)));
+        return ids;
+    }
+
+    @SuppressFBWarnings(
+            value = "COMMAND_INJECTION",
+            justification = "The executable and image names come from the build configuration")
+    private static String imageId(final String docker, final String image) {
+        try {
+            final Process process =
+                    new ProcessBuilder(docker, "image", "inspect", "--format={{.Id}}", image)
+                            .redirectErrorStream(true)
+                            .start();
+
+            final String output = new String(process.getInputStream().readAllBytes(), UTF_8);
+            if (!process.waitFor(TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                process.destroyForcibly();
+                throw new GradleException("Timed out inspecting Docker image " + image);
+            }
+
+            if (process.exitValue() == 0) {
+                return output.trim();
+            }
+
+            if (output.contains("No such image")) {
+                return MISSING_IMAGE;
+            }
+
+            throw new GradleException(
+                    "Failed to inspect Docker image " + image + ": " + output.trim());
+        } catch (final IOException e) {
+            throw new GradleException(
+                    "Failed to run '" + docker + "' to inspect Docker image " + image, e);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new GradleException("Interrupted inspecting Docker image " + image, e);
+        }
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.system.test.gradle.plugin.test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.ToDoubleFunction;
+
+/** Splits test suites into shards that can be run in parallel. */
+final class ShardPlanner {
+
+    private ShardPlanner() {}
+
+    /**
+     * Split the supplied {@code suites} into at most {@code maxShards} groups of similar duration.
+     *
+     * <p>Suites are assigned longest first, each to whichever shard has the least total estimated
+     * duration so far. Where durations are equal, suites are dealt out in turn. Empty shards are
+     * never returned.
+     *
+     * @param suites the suites to split.
+     * @param maxShards the maximum number of shards.
+     * @param durations estimates of each suite's duration.
+     * @return the shards, each sorted by suite path.
+     */
+    static List<List<String>> plan(
+            final List<String> suites,
+            final int maxShards,
+            final ToDoubleFunction<String> durations) {
+        if (maxShards < 1) {
+            throw new IllegalArgumentException("maxShards must be positive, but was: " + maxShards);
+        }
+
+        final int shardCount = Math.min(maxShards, suites.size());
+        final List<List<String>> shards = new ArrayList<>(shardCount);
+        for (int i = 0; i < shardCount; i++) {
+            shards.add(new ArrayList<>());
+        }
+
+        final List<String> longestFirst = new ArrayList<>(suites);
+        longestFirst.sort(
+                Comparator.comparingDouble(durations)
+                        .reversed()
+                        .thenComparing(Comparator.naturalOrder()));
+
+        final double[] loads = new double[shardCount];
+        for (final String suite : longestFirst) {
+            final int shard = leastLoaded(loads);
+            shards.get(shard).add(suite);
+            loads[shard] += durations.applyAsDouble(suite);
+        }
+
+        shards.forEach(Collections::sort);
+        return shards;
+    }
+
+    private static int leastLoaded(final double[] loads) {
+        int least = 0;
+        for (int i = 1; i < loads.length; i++) {
+            if (loads[i] < loads[least]) {
+                least = i;
+            }
+        }
+        return least;
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.system.test.gradle.plugin.test;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.zip.CRC32;
+
+/**
+ * Identifies the slice of suites a single build node should run, when suites are spread across
+ * several nodes.
+ *
+ * <p>Suites are assigned to shards by a hash of their relative path. The assignment is therefore
+ * stable across nodes and runs, and adding a suite does not move existing suites between shards.
+ */
+final class ShardSpec {
+
+    private static final Pattern FORMAT = Pattern.compile("(\\d{1,9})/(\\d{1,9})");
+
+    private final int index;
+    private final int total;
+
+    private ShardSpec(final int index, final int total) {
+        this.index = index;
+        this.total = total;
+    }
+
+    /**
+     * Parse a shard spec.
+     *
+     * @param text the text to parse, in the form {@code INDEX/TOTAL}, where index is one-based.
+     * @return the shard spec.
+     */
+    static ShardSpec parse(final String text) {
+        final Matcher matcher = FORMAT.matcher(text.trim());
+        if (matcher.matches()) {
+            final int index = Integer.parseInt(matcher.group(1));
+            final int total = Integer.parseInt(matcher.group(2));
+            if (index >= 1 && index <= total) {
+                return new ShardSpec(index, total);
+            }
+        }
+
+        throw new IllegalArgumentException(
+                "Invalid shard: '"
+                        + text
+                        + "'. Expected INDEX/TOTAL, where 1 <= INDEX <= TOTAL, e.g. 1/4");
+    }
+
+    /**
+     * @return the name of the shard, used to make result and coverage files unique to the shard.
+     */
+    String name() {
+        return "shard-" + index + "-of-" + total;
+    }
+
+    /**
+     * Select this shard's slice of the supplied suites.
+     *
+     * @param suites the relative paths of all suites.
+     * @return the suites this shard should run.
+     */
+    List<String> select(final List<String> suites) {
+        return suites.stream()
+                .filter(suite -> bucket(suite, total) == index - 1)
+                .collect(Collectors.toList());
+    }
+
+    private static int bucket(final String suite, final int total) {
+        final CRC32 crc = new CRC32();
+        crc.update(suite.replace('\\', '/').getBytes(UTF_8));
+        return (int) (crc.getValue() % total);
+    }
+}
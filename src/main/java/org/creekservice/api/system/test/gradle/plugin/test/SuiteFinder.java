@@ -0,0 +1,153 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.system.test.gradle.plugin.test;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Finds the test suites within a directory of test packages.
+ *
+ * <p>A suite is any YAML file within a test package that is not a seed, input or expectation.
+ */
+final class SuiteFinder {
+
+    /** The subdirectories of a test package that hold its seed, inputs and expectations. */
+    static final Set<String> PACKAGE_DIRS = Set.of("seed", "inputs", "expectations");
+
+    private static final Pattern NAME_PROPERTY = Pattern.compile("^name:\\s*([^#]*)$");
+
+    private SuiteFinder() {}
+
+    /**
+     * Find suites.
+     *
+     * @param testDir the root directory containing test packages.
+     * @param include the pattern a suite's relative path must match to be included.
+     * @return the sorted relative paths of the matching suites.
+     */
+    static List<String> findSuites(final Path testDir, final Pattern include) {
+        if (!Files.isDirectory(testDir)) {
+            return List.of();
+        }
+
+        try (Stream<Path> paths = Files.walk(testDir)) {
+            return paths.filter(Files::isRegularFile)
+                    .map(testDir::relativize)
+                    .filter(SuiteFinder::isYaml)
+                    .filter(SuiteFinder::notInPackageDir)
+                    .map(Path::toString)
+                    .filter(path -> include.matcher(path).matches())
+                    .sorted()
+                    .collect(Collectors.toList());
+        } catch (final IOException e) {
+            throw new UncheckedIOException("Failed to find test suites in " + testDir, e);
+        }
+    }
+
+    /**
+     * Build an include pattern that matches exactly the supplied suites.
+     *
+     * @param suites the relative paths of the suites to include.
+     * @return the regular expression to pass to the executor.
+     */
+    static String includePattern(final Collection<String> suites) {
+        return suites.stream().map(Pattern::quote).collect(Collectors.joining("|"));
+    }
+
+    /**
+     * Map suite names to suite paths.
+     *
+     * <p>The name of a suite is read from the top-level {@code name} property in its YAML file.
+     * Suites without a name, or whose name is shared with another suite, are excluded.
+     *
+     * @param testDir the root directory containing test packages.
+     * @param suites the relative paths of the suites to map.
+     * @return map of suite name to relative path.
+     */
+    static Map<String, String> suitesByName(final Path testDir, final Collection<String> suites) {
+        final Map<String, String> byName = new HashMap<>();
+        final Set<String> duplicates = new HashSet<>();
+        for (final String suite : suites) {
+            suiteName(testDir.resolve(suite))
+                    .ifPresent(
+                            name -> {
+                                if (byName.putIfAbsent(name, suite) != null) {
+                                    duplicates.add(name);
+                                }
+                            });
+        }
+        byName.keySet().removeAll(duplicates);
+        return byName;
+    }
+
+    /**
+     * Read the name of a suite from its YAML file.
+     *
+     * @param suiteFile the suite file.
+     * @return the value of the top-level {@code name} property, if present.
+     */
+    static Optional<String> suiteName(final Path suiteFile) {
+        try (Stream<String> lines = Files.lines(suiteFile, UTF_8)) {
+            return lines.map(NAME_PROPERTY::matcher)
+                    .filter(Matcher::matches)
+                    .map(m -> unquote(m.group(1).trim()))
+                    .filter(name -> !name.isEmpty())
+                    .findFirst();
+        } catch (final IOException | UncheckedIOException e) {
+            return Optional.empty();
+        }
+    }
+
+    private static String unquote(final String value) {
+        if (value.length() >= 2
+                && (value.startsWith("'") && value.endsWith("'")
+                        || value.startsWith("\"") && value.endsWith("\""))) {
+            return value.substring(1, value.length() - 1);
+        }
+        return value;
+    }
+
+    private static boolean isYaml(final Path relative) {
+        final String name = String.valueOf(relative.getFileName());
+        return name.endsWith(".yml") || name.endsWith(".yaml");
+    }
+
+    private static boolean notInPackageDir(final Path relative) {
+        final Path parent = relative.getParent();
+        return parent == null
+                || StreamSupport.stream(parent.spliterator(), false)
+                        .map(Path::toString)
+                        .noneMatch(PACKAGE_DIRS::contains);
+    }
+}
@@ -0,0 +1,202 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.system.test.gradle.plugin.test;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.creekservice.api.system.test.gradle.plugin.test.SuiteFinder.PACKAGE_DIRS;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.creekservice.api.system.test.gradle.plugin.util.Sha256;
+
+/**
+ * Fingerprints of the suites that last passed, used to skip suites whose inputs have not changed.
+ *
+ * <p>A suite's fingerprint covers the test package it belongs to, i.e. the files in the suite's
+ * directory and its {@code seed}, {@code inputs} and {@code expectations} subdirectories, and the
+ * environment it is run in, e.g. the class path containing the components under test.
+ */
+final class SuiteFingerprints {
+
+    private final Map<String, String> fingerprints;
+
+    private SuiteFingerprints(final Map<String, String> fingerprints) {
+        this.fingerprints = fingerprints;
+    }
+
+    /**
+     * Load fingerprints from a file.
+     *
+     * @param file the file to load from.
+     * @return the fingerprints, which will be empty if the file does not exist.
+     */
+    static SuiteFingerprints load(final Path file) {
+        final Map<String, String> fingerprints = new TreeMap<>();
+        if (!Files.exists(file)) {
+            return new SuiteFingerprints(fingerprints);
+        }
+
+        final Properties props = new Properties();
+        try (Reader reader = Files.newBufferedReader(file, UTF_8)) {
+            props.load(reader);
+        } catch (final IOException e) {
+            throw new UncheckedIOException("Failed to load suite fingerprints from " + file, e);
+        }
+
+        props.stringPropertyNames()
+                .forEach(suite -> fingerprints.put(suite, props.getProperty(suite)));
+        return new SuiteFingerprints(fingerprints);
+    }
+
+    /**
+     * @param suite the relative path of the suite.
+     * @param fingerprint the suite's current fingerprint.
+     * @return {@code true} if the suite last passed with the same fingerprint.
+     */
+    boolean matches(final String suite, final String fingerprint) {
+        return fingerprint.equals(fingerprints.get(suite));
+    }
+
+    /**
+     * Record the fingerprint of a suite that passed.
+     *
+     * @param suite the relative path of the suite.
+     * @param fingerprint the suite's fingerprint.
+     */
+    void record(final String suite, final String fingerprint) {
+        fingerprints.put(suite, fingerprint);
+    }
+
+    /**
+     * Forget a suite, e.g. because it failed, so that it is run next time.
+     *
+     * @param suite the relative path of the suite.
+     */
+    void remove(final String suite) {
+        fingerprints.remove(suite);
+    }
+
+    /**
+     * Save the fingerprints to a file.
+     *
+     * @param file the file to save to.
+     */
+    void save(final Path file) {
+        final Properties props = new Properties();
+        props.putAll(fingerprints);
+
+        try {
+            Files.createDirectories(file.toAbsolutePath().getParent());
+            try (Writer writer = Files.newBufferedWriter(file, UTF_8)) {
+                props.store(writer, "Creek system test fingerprints of suites that last passed");
+            }
+        } catch (final IOException e) {
+            throw new UncheckedIOException("Failed to save suite fingerprints to " + file, e);
+        }
+    }
+
+    /**
+     * Compute the fingerprint of the environment suites are run in.
+     *
+     * @param classPath the class path of the executor, its extensions and the components under
+     *     test.
+     * @param settings any settings that change how suites are run.
+     * @return the fingerprint.
+     */
+    static String environment(final Collection<File> classPath, final List<String> settings) {
+        final Sha256 hash = Sha256.create();
+        settings.forEach(hash::add);
+        for (final File file : classPath) {
+            final Path path = file.toPath();
+            hash.add(file.getName());
+            if (Files.isDirectory(path)) {
+                addDir(hash, path, path, true);
+            } else if (Files.isRegularFile(path)) {
+                hash.addContent(path);
+            }
+        }
+        return hash.hex();
+    }
+
+    /**
+     * Compute the fingerprints of suites.
+     *
+     * @param testDir the root directory containing test packages.
+     * @param suites the relative paths of the suites.
+     * @param environment the fingerprint of the environment, as returned by {@link
+     *     #environment}.
+     * @return map of suite to fingerprint.
+     */
+    static Map<String, String> compute(
+            final Path testDir, final Collection<String> suites, final String environment) {
+        final Map<Path, String> packages = new HashMap<>();
+        final Map<String, String> result = new HashMap<>();
+        for (final String suite : suites) {
+            final Path packageDir = testDir.resolve(suite).getParent();
+            result.put(
+                    suite,
+                    packages.computeIfAbsent(
+                            packageDir, dir -> packageFingerprint(dir, environment)));
+        }
+        return result;
+    }
+
+    private static String packageFingerprint(final Path packageDir, final String environment) {
+        final Sha256 hash = Sha256.create().add(environment);
+        addDir(hash, packageDir, packageDir, false);
+        return hash.hex();
+    }
+
+    /**
+     * @param recursive if {@code false}, only files directly in {@code dir} and in its seed, inputs
+     *     and expectations subdirectories are included. Other subdirectories belong to other test
+     *     packages.
+     */
+    private static void addDir(
+            final Sha256 hash, final Path root, final Path dir, final boolean recursive) {
+        final List<Path> children;
+        try (Stream<Path> paths = Files.list(dir)) {
+            children = paths.sorted().collect(Collectors.toList());
+        } catch (final IOException e) {
+            throw new UncheckedIOException("Failed to list " + dir, e);
+        }
+
+        for (final Path child : children) {
+            if (Files.isDirectory(child)) {
+                if (recursive || PACKAGE_DIRS.contains(String.valueOf(child.getFileName()))) {
+                    addDir(hash, root, child, true);
+                }
+            } else if (Files.isRegularFile(child)) {
+                hash.add(root.relativize(child).toString().replace(File.separatorChar, '/'))
+                        .addContent(child);
+            }
+        }
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.system.test.gradle.plugin.test;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+
+/** The summary of a single test suite's result, as read from a JUnit style result file. */
+final class SuiteResult {
+
+    private final String name;
+    private final double timeSeconds;
+    private final int tests;
+    private final int failures;
+    private final int errors;
+    private final int skipped;
+    private final List<CaseResult> cases;
+
+    SuiteResult(
+            final String name,
+            final double timeSeconds,
+            final int tests,
+            final int failures,
+            final int errors,
+            final int skipped,
+            final List<CaseResult> cases) {
+        this.name = requireNonNull(name, "name");
+        this.timeSeconds = timeSeconds;
+        this.tests = tests;
+        this.failures = failures;
+        this.errors = errors;
+        this.skipped = skipped;
+        this.cases = List.copyOf(requireNonNull(cases, "cases"));
+    }
+
+    /**
+     * @return the name of the suite.
+     */
+    String name() {
+        return name;
+    }
+
+    /**
+     * @return how long the suite took to run, in seconds.
+     */
+    double timeSeconds() {
+        return timeSeconds;
+    }
+
+    /**
+     * @return the number of test cases in the suite.
+     */
+    int tests() {
+        return tests;
+    }
+
+    /**
+     * @return the number of test cases that failed.
+     */
+    int failures() {
+        return failures;
+    }
+
+    /**
+     * @return the number of test cases that errored.
+     */
+    int errors() {
+        return errors;
+    }
+
+    /**
+     * @return the number of test cases that were skipped.
+     */
+    int skipped() {
+        return skipped;
+    }
+
+    /**
+     * @return the results of the suite's test cases.
+     */
+    List<CaseResult> cases() {
+        return cases;
+    }
+
+    /**
+     * @return {@code true} if any test case in the suite failed or errored.
+     */
+    boolean failed() {
+        return failures != 0 || errors != 0;
+    }
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.system.test.gradle.plugin.test;
+
+import java.time.Instant;
+
+/** Receives the result of each suite as it completes. */
+interface SuiteResultListener {
+
+    /** Listener that ignores all results. */
+    SuiteResultListener NONE =
+            new SuiteResultListener() {
+                @Override
+                public void suiteCompleted(final SuiteResult result, final Instant completed) {}
+
+                @Override
+                public void close(final boolean passed) {}
+            };
+
+    /**
+     * Called as each suite completes.
+     *
+     * @param result the result of the suite.
+     * @param completed when the suite completed.
+     */
+    void suiteCompleted(SuiteResult result, Instant completed);
+
+    /**
+     * Called once the run is complete.
+     *
+     * @param passed whether the run passed.
+     */
+    void close(boolean passed);
+}
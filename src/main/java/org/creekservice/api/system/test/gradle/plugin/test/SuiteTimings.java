@@ -0,0 +1,149 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.system.test.gradle.plugin.test;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalDouble;
+import java.util.Properties;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+/**
+ * A small history of how long each suite has taken to run.
+ *
+ * <p>Only the most recent few durations of each suite are kept. Estimates are the mean of these.
+ */
+final class SuiteTimings {
+
+    private static final int MAX_SAMPLES = 5;
+
+    private final Map<String, List<Double>> samples;
+
+    private SuiteTimings(final Map<String, List<Double>> samples) {
+        this.samples = samples;
+    }
+
+    /**
+     * Load timings from a file.
+     *
+     * @param file the file to load from.
+     * @return the timings, which will be empty if the file does not exist.
+     */
+    static SuiteTimings load(final Path file) {
+        final Map<String, List<Double>> samples = new TreeMap<>();
+        if (!Files.exists(file)) {
+            return new SuiteTimings(samples);
+        }
+
+        final Properties props = new Properties();
+        try (Reader reader = Files.newBufferedReader(file, UTF_8)) {
+            props.load(reader);
+        } catch (final IOException e) {
+            throw new UncheckedIOException("Failed to load suite timings from " + file, e);
+        }
+
+        props.stringPropertyNames()
+                .forEach(suite -> samples.put(suite, parse(props.getProperty(suite))));
+        samples.values().removeIf(List::isEmpty);
+        return new SuiteTimings(samples);
+    }
+
+    /**
+     * Record a new duration for a suite.
+     *
+     * @param suite the relative path of the suite.
+     * @param seconds how long the suite took to run.
+     */
+    void record(final String suite, final double seconds) {
+        final List<Double> durations = samples.computeIfAbsent(suite, k -> new ArrayList<>());
+        durations.add(seconds);
+        if (durations.size() > MAX_SAMPLES) {
+            durations.remove(0);
+        }
+    }
+
+    /**
+     * @param suite the relative path of the suite.
+     * @return the estimated duration of the suite, in seconds, if known.
+     */
+    OptionalDouble estimate(final String suite) {
+        final List<Double> durations = samples.get(suite);
+        if (durations == null) {
+            return OptionalDouble.empty();
+        }
+        return durations.stream().mapToDouble(Double::doubleValue).average();
+    }
+
+    /**
+     * @return the mean of the estimates of all known suites, if any.
+     */
+    OptionalDouble averageEstimate() {
+        return samples.keySet().stream()
+                .map(this::estimate)
+                .filter(OptionalDouble::isPresent)
+                .mapToDouble(OptionalDouble::getAsDouble)
+                .average();
+    }
+
+    /**
+     * Save the timings to a file.
+     *
+     * @param file the file to save to.
+     */
+    void save(final Path file) {
+        final Properties props = new Properties();
+        samples.forEach(
+                (suite, durations) ->
+                        props.setProperty(
+                                suite,
+                                durations.stream()
+                                        .map(String::valueOf)
+                                        .collect(Collectors.joining(","))));
+
+        try {
+            Files.createDirectories(file.toAbsolutePath().getParent());
+            try (Writer writer = Files.newBufferedWriter(file, UTF_8)) {
+                props.store(writer, "Creek system test suite durations, in seconds");
+            }
+        } catch (final IOException e) {
+            throw new UncheckedIOException("Failed to save suite timings to " + file, e);
+        }
+    }
+
+    private static List<Double> parse(final String value) {
+        try {
+            return Arrays.stream(value.split(","))
+                    .map(String::trim)
+                    .filter(s -> !s.isEmpty())
+                    .map(Double::valueOf)
+                    .collect(Collectors.toCollection(ArrayList::new));
+        } catch (final NumberFormatException e) {
+            return new ArrayList<>();
+        }
+    }
+}
@@ -19,41 +19,73 @@ package org.creekservice.api.system.test.gradle.plugin.test;
 import static org.creekservice.api.system.test.gradle.plugin.SystemTestPlugin.CONTAINER_MOUNT_DIR;
 import static org.creekservice.api.system.test.gradle.plugin.SystemTestPlugin.EXECUTOR_DEP_ARTEFACT_NAME;
 import static org.creekservice.api.system.test.gradle.plugin.SystemTestPlugin.EXECUTOR_DEP_GROUP_NAME;
+import static org.creekservice.api.system.test.gradle.plugin.SystemTestPlugin.EXECUTOR_MAIN_CLASS;
 import static org.creekservice.api.system.test.gradle.plugin.coverage.SystemTestCoverageExtension.COVERAGE_EXT_NAME;
 
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.OptionalInt;
 import java.util.Set;
+import java.util.UUID;
 import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
 import javax.inject.Inject;
+import org.creekservice.api.system.test.gradle.plugin.ExecutionMode;
+import org.creekservice.api.system.test.gradle.plugin.GcProfile;
 import org.creekservice.api.system.test.gradle.plugin.SystemTestPlugin;
+import org.creekservice.api.system.test.gradle.plugin.cds.ExecutorCds;
 import org.creekservice.api.system.test.gradle.plugin.coverage.SystemTestCoverageExtension;
+import org.creekservice.api.system.test.gradle.plugin.daemon.DaemonSpec;
+import org.creekservice.api.system.test.gradle.plugin.daemon.ExecutorDaemons;
 import org.creekservice.api.system.test.gradle.plugin.debug.PrepareDebug;
+import org.creekservice.api.system.test.gradle.plugin.launcher.LauncherJar;
 import org.gradle.api.Action;
 import org.gradle.api.DefaultTask;
 import org.gradle.api.GradleException;
 import org.gradle.api.Project;
-import org.gradle.api.artifacts.Configuration;
-import org.gradle.api.artifacts.Dependency;
 import org.gradle.api.file.ConfigurableFileCollection;
 import org.gradle.api.file.DirectoryProperty;
+import org.gradle.api.file.RegularFileProperty;
+import org.gradle.api.model.ObjectFactory;
 import org.gradle.api.provider.ListProperty;
+import org.gradle.api.provider.MapProperty;
 import org.gradle.api.provider.Property;
+import org.gradle.api.provider.Provider;
 import org.gradle.api.provider.SetProperty;
 import org.gradle.api.tasks.CacheableTask;
+import org.gradle.api.tasks.Classpath;
 import org.gradle.api.tasks.Input;
 import org.gradle.api.tasks.InputDirectory;
 import org.gradle.api.tasks.Internal;
 import org.gradle.api.tasks.OutputDirectory;
+import org.gradle.api.tasks.OutputFile;
 import org.gradle.api.tasks.PathSensitive;
 import org.gradle.api.tasks.PathSensitivity;
 import org.gradle.api.tasks.SkipWhenEmpty;
 import org.gradle.api.tasks.TaskAction;
+import org.gradle.api.tasks.TaskProvider;
 import org.gradle.api.tasks.options.Option;
 import org.gradle.process.ExecOperations;
 import org.gradle.testing.jacoco.plugins.JacocoPlugin;
+import org.gradle.util.GradleVersion;
+import org.gradle.workers.WorkQueue;
+import org.gradle.workers.WorkerExecutionException;
+import org.gradle.workers.WorkerExecutor;
 
 /** Task for running Creek system tests. */
 @CacheableTask
@@ -65,8 +97,14 @@ public abstract class SystemTest extends DefaultTask {
      */
     public static final String CONTAINER_DEBUG_MOUNT = CONTAINER_MOUNT_DIR + "debug/";
 
+    private static final GradleVersion MIN_TEST_EVENTS_VERSION = GradleVersion.version("8.13");
+
+    /** Unique to each run in a worker, so that Gradle never reuses a worker across runs. */
+    private static final String WORKER_RUN_PROPERTY = "creek.system.test.worker.run";
+
     private final ConfigurableFileCollection classPath;
-    private final PrepareDebug debugPrepareTask;
+    private final File projectDir;
+    private SystemTestCoverageExtension coverage;
 
     /** Constructor. */
     public SystemTest() {
@@ -74,12 +112,79 @@ public abstract class SystemTest extends DefaultTask {
         this.classPath.from((Callable<Object>) this::getSystemTestExecutor);
         this.classPath.from((Callable<Object>) this::getSystemTestExtensions);
         this.classPath.from((Callable<Object>) this::getSystemTestComponents);
-        this.debugPrepareTask = prepareDebugTask(getProject());
+        this.projectDir = getProject().getProjectDir();
 
         setDescription("Task for running Creek system tests");
 
+        getTimingHistoryFile()
+                .convention(
+                        getProject()
+                                .getLayout()
+                                .getBuildDirectory()
+                                .file("creek/state/" + getName() + "/suite-timings.properties"));
+        getFingerprintFile()
+                .convention(
+                        getProject()
+                                .getLayout()
+                                .getBuildDirectory()
+                                .file(
+                                        "creek/state/"
+                                                + getName()
+                                                + "/suite-fingerprints.properties"));
+        getFlakyReportFile()
+                .convention(
+                        getProject()
+                                .getLayout()
+                                .getBuildDirectory()
+                                .file("reports/creek/" + getName() + "/flaky-suites.txt"));
+        getTestEventResultsDirectory()
+                .convention(
+                        getProject()
+                                .getLayout()
+                                .getBuildDirectory()
+                                .dir("test-results/" + getName() + "/binary"));
+        getTestReportDirectory()
+                .convention(
+                        getProject()
+                                .getLayout()
+                                .getBuildDirectory()
+                                .dir("reports/tests/" + getName()));
+
+        getExecutorVersion().convention(executorVersion(getProject()));
+        getExecutorGcProfile().convention(GcProfile.LOW_MEMORY);
+        getExecutorJvmArgs().convention(List.of());
+
+        final TaskProvider<PrepareDebug> debugPrepareTask =
+                getProject()
+                        .getTasks()
+                        .named(SystemTestPlugin.PREPARE_DEBUG_TASK_NAME, PrepareDebug.class);
+        getDebugAgentDirectory()
+                .convention(debugPrepareTask.flatMap(PrepareDebug::getMountDirectory));
+        getDebugAgentJarName()
+                .convention(
+                        debugPrepareTask
+                                .flatMap(PrepareDebug::getMountedAgentJar)
+                                .map(jar -> jar.getAsFile().getName()));
         dependsOn(debugPrepareTask);
 
+        getClassDataSharing().convention(false);
+        final TaskProvider<ExecutorCds> cdsTask =
+                getProject()
+                        .getTasks()
+                        .named(SystemTestPlugin.EXECUTOR_CDS_TASK_NAME, ExecutorCds.class);
+        getCdsArchiveDirectory().convention(cdsTask.flatMap(ExecutorCds::getArchiveDirectory));
+        dependsOn(
+                getClassDataSharing()
+                        .map(enabled -> enabled ? List.of(cdsTask) : List.<Object>of()));
+
+        getPathingJar().convention(false);
+        final TaskProvider<LauncherJar> launcherTask =
+                getProject()
+                        .getTasks()
+                        .named(SystemTestPlugin.LAUNCHER_JAR_TASK_NAME, LauncherJar.class);
+        getLauncherJar().convention(launcherTask.flatMap(LauncherJar::getLauncherJar));
+        dependsOn(launcherTask);
+
         initialiseCoverage();
     }
 
@@ -89,6 +194,18 @@ public abstract class SystemTest extends DefaultTask {
     @Inject
     protected abstract ExecOperations getExecOperations();
 
+    /**
+     * @return the worker executor, for running the executor in worker daemons.
+     */
+    @Inject
+    protected abstract WorkerExecutor getWorkerExecutor();
+
+    /**
+     * @return the object factory.
+     */
+    @Inject
+    protected abstract ObjectFactory getObjectFactory();
+
     /**
      * @return the source directory containing test
      */
@@ -104,23 +221,36 @@ public abstract class SystemTest extends DefaultTask {
     public abstract DirectoryProperty getResultDirectory();
 
     /**
+     * The class path of the system test executor.
+     *
+     * <p>Class path normalization is applied, so only changes to the content of the class path
+     * affect up-to-date checks and cache keys, not file timestamps or the order of jar entries.
+     *
      * @return dependencies of the system test executor.
      */
-    @Internal
+    @Classpath
     public abstract ConfigurableFileCollection getSystemTestExecutor();
 
     /**
      * @return dependencies of the system test extensions.
      */
-    @Internal
+    @Classpath
     public abstract ConfigurableFileCollection getSystemTestExtensions();
 
     /**
      * @return dependencies of the components being system tested.
      */
-    @Internal
+    @Classpath
     public abstract ConfigurableFileCollection getSystemTestComponents();
 
+    /**
+     * The IDs of the Docker images of the services under test, keyed by image name.
+     *
+     * @return the image IDs.
+     */
+    @Input
+    public abstract MapProperty<String, String> getServiceImageIds();
+
     /**
      * @return verification timeout property.
      */
@@ -146,6 +276,286 @@ public abstract class SystemTest extends DefaultTask {
     @Input
     public abstract Property<String> getSuitesPathPattern();
 
+    /**
+     * The slice of suites to run on this build node, when suites are spread across several nodes.
+     *
+     * <p>In the form {@code INDEX/TOTAL}, e.g. {@code 2/4} for the second of four shards.
+     *
+     * @return the shard property.
+     */
+    @Option(
+            option = "shard",
+            description =
+                    "Run only one slice of the test suites, in the form INDEX/TOTAL, e.g. 2/4 to"
+                        + " run the second of four slices. Suites are assigned to slices by a"
+                        + " stable hash of their relative path.")
+    @Input
+    @org.gradle.api.tasks.Optional
+    public abstract Property<String> getShard();
+
+    /**
+     * The maximum number of executors to run in parallel.
+     *
+     * <p>When greater than one, the suites to run are split into this many shards, each run by its
+     * own executor.
+     *
+     * @return the maximum number of parallel executors.
+     */
+    @Input
+    public abstract Property<Integer> getMaxParallelShards();
+
+    /**
+     * The file in which a history of each suite's duration is kept.
+     *
+     * <p>The history is updated from the result files after each run, and used to balance suites
+     * across shards.
+     *
+     * @return the timing history file.
+     */
+    @Internal
+    public abstract RegularFileProperty getTimingHistoryFile();
+
+    /**
+     * Whether to only run suites that have changed, or did not pass, since they were last run.
+     *
+     * <p>Earlier results of unchanged suites are kept in the result directory.
+     *
+     * @return the incremental property.
+     */
+    @Option(
+            option = "incremental",
+            description =
+                    "Only run suites whose test package or component class path has changed, or"
+                        + " that did not pass, since they were last run.")
+    @Input
+    public abstract Property<Boolean> getIncremental();
+
+    /**
+     * Whether to only run the suites that failed, or errored, in the previous run.
+     *
+     * <p>The new results replace those of the failed suites in the result directory.
+     *
+     * @return the re-run failed property.
+     */
+    @Option(
+            option = "rerun-failed",
+            description =
+                    "Only run the suites that failed, or errored, in the previous run, merging the"
+                        + " new results into the existing results.")
+    @Input
+    public abstract Property<Boolean> getRerunFailed();
+
+    /**
+     * The maximum number of times to retry failed suites.
+     *
+     * <p>Failed suites are re-run in a fresh executor, up to this many times, until they pass.
+     *
+     * @return the maximum number of retries.
+     */
+    @Input
+    public abstract Property<Integer> getMaxRetries();
+
+    /**
+     * The maximum number of suite failures, across all attempts, before retrying stops.
+     *
+     * @return the maximum number of failures.
+     */
+    @Input
+    public abstract Property<Integer> getMaxRetryFailures();
+
+    /**
+     * The file listing the suites that failed, but passed when retried.
+     *
+     * <p>The file is only written when there are such suites.
+     *
+     * @return the flaky suite report file.
+     */
+    @OutputFile
+    public abstract RegularFileProperty getFlakyReportFile();
+
+    /**
+     * The file in which fingerprints of suites that last passed are kept, when running
+     * incrementally.
+     *
+     * @return the fingerprint file.
+     */
+    @Internal
+    public abstract RegularFileProperty getFingerprintFile();
+
+    /**
+     * How the executor is run.
+     *
+     * @return the execution mode.
+     */
+    @Option(
+            option = "execution-mode",
+            description =
+                    "How to run the executor: FORK a new JVM for each run, use a warm DAEMON JVM"
+                        + " started ahead of time, or run in a Gradle WORKER daemon.")
+    @Input
+    public abstract Property<ExecutionMode> getExecutionMode();
+
+    /**
+     * Whether to stop running suites as soon as any suite fails.
+     *
+     * <p>Any executors still running, including those of parallel shards, are stopped once a
+     * failed suite is reported. Results of suites that completed are kept.
+     *
+     * @return the fail fast property.
+     */
+    @Option(
+            option = "fail-fast",
+            description =
+                    "Stop running suites as soon as any suite fails, including those running in"
+                        + " parallel shards.")
+    @Input
+    public abstract Property<Boolean> getFailFast();
+
+    /**
+     * How long an unused executor daemon waits for a run before shutting down.
+     *
+     * @return the idle timeout.
+     */
+    @Internal
+    public abstract Property<Duration> getDaemonIdleTimeout();
+
+    /**
+     * The names of the environment variables passed to executor daemons.
+     *
+     * @return the variable names, where a trailing {@code *} matches any suffix.
+     */
+    @Internal
+    public abstract ListProperty<String> getDaemonEnvironment();
+
+    /**
+     * @return the service managing executor daemons.
+     */
+    @Internal
+    public abstract Property<ExecutorDaemons> getExecutorDaemons();
+
+    /**
+     * The directory Gradle stores the binary results of reported test events in.
+     *
+     * <p>Suite results are reported as Gradle test events as each suite completes, when running on
+     * Gradle 8.13 or later.
+     *
+     * @return the binary test event results directory.
+     */
+    @Internal
+    public abstract DirectoryProperty getTestEventResultsDirectory();
+
+    /**
+     * The directory Gradle writes the HTML report of reported test events to.
+     *
+     * @return the HTML test report directory.
+     */
+    @Internal
+    public abstract DirectoryProperty getTestReportDirectory();
+
+    /**
+     * The version of the system test executor dependency.
+     *
+     * <p>Captured at configuration time, so that the task can run with the configuration cache
+     * enabled. Absent if the executor configuration does not contain the executor.
+     *
+     * @return the executor version.
+     */
+    @Internal
+    public abstract Property<String> getExecutorVersion();
+
+    /**
+     * @return the maximum heap size of the executor JVM, e.g. {@code 256m}.
+     */
+    @Internal
+    public abstract Property<String> getExecutorMaxHeap();
+
+    /**
+     * @return the preset tuning of the executor JVM.
+     */
+    @Internal
+    public abstract Property<GcProfile> getExecutorGcProfile();
+
+    /**
+     * Additional JVM arguments used when starting the executor.
+     *
+     * <p>Passed after those of the {@link #getExecutorGcProfile() profile} and {@link
+     * #getExecutorMaxHeap() maximum heap size}, so can override them.
+     *
+     * @return the additional executor JVM arguments.
+     */
+    @Internal
+    public abstract ListProperty<String> getExecutorJvmArgs();
+
+    /**
+     * The JVM arguments the executor is launched with, other than any class data sharing archive.
+     *
+     * @return the arguments of the {@link #getExecutorGcProfile() profile}, {@link
+     *     #getExecutorMaxHeap() maximum heap size} and {@link #getExecutorJvmArgs() additional
+     *     arguments}.
+     */
+    @Internal
+    public Provider<List<String>> getExecutorLaunchJvmArgs() {
+        return getExecutorGcProfile()
+                .map(GcProfile::jvmArgs)
+                .zip(
+                        getExecutorMaxHeap().map(heap -> List.of("-Xmx" + heap)).orElse(List.of()),
+                        SystemTest::concat)
+                .zip(getExecutorJvmArgs(), SystemTest::concat);
+    }
+
+    /**
+     * @return whether the executor uses a class data sharing archive.
+     */
+    @Internal
+    public abstract Property<Boolean> getClassDataSharing();
+
+    /**
+     * @return the directory containing the executor's class data sharing archive.
+     */
+    @Internal
+    public abstract DirectoryProperty getCdsArchiveDirectory();
+
+    /**
+     * @return whether the executor is launched from a pathing jar.
+     */
+    @Internal
+    public abstract Property<Boolean> getPathingJar();
+
+    /**
+     * @return the pathing jar the executor is launched from, if {@link #getPathingJar() enabled}.
+     */
+    @Internal
+    public abstract RegularFileProperty getLauncherJar();
+
+    /**
+     * Method to allow setting executor JVM arguments from the command line.
+     *
+     * <p>Replaces any JVM arguments set in the build script.
+     *
+     * @param args the JVM arguments.
+     */
+    @SuppressWarnings("unused") // Invoked via reflection
+    @Option(
+            option = "executor-jvm-arg",
+            description =
+                    "JVM argument(s) to use when starting the system test executor, e.g."
+                        + " -Xmx512m. Overrides any set in the build script.")
+    public void setExecutorJvmArgsFromOption(final List<String> args) {
+        getExecutorJvmArgs().set(args);
+    }
+
+    /**
+     * @return the directory containing the debug agent, which is mounted into service containers.
+     */
+    @Internal
+    public abstract DirectoryProperty getDebugAgentDirectory();
+
+    /**
+     * @return the file name of the debug agent jar, within the debug agent directory.
+     */
+    @Internal
+    public abstract Property<String> getDebugAgentJarName();
+
     /**
      * @return additional command line arguments to pass to the executor
      */
@@ -237,28 +647,748 @@ public abstract class SystemTest extends DefaultTask {
         cleanUp();
         checkDependenciesIncludesRunner();
 
-        getExecOperations()
+        // Resolve on the task's thread, as shards are launched from other threads:
+        final Set<File> resolvedClassPath = classPath.getFiles();
+        final Set<File> launchClassPath =
+                LauncherJar.launchClassPath(
+                        getPathingJar().get(),
+                        getLauncherJar().get().getAsFile(),
+                        resolvedClassPath);
+        if (getPathingJar().get()) {
+            getLogger().info("Launching the executor from pathing jar: {}", launchClassPath);
+        }
+        final List<String> jvmArgs = executorJvmArgs(launchClassPath);
+        getLogger().info("Executor JVM arguments: {}", jvmArgs);
+
+        final Instant start = Instant.now().truncatedTo(ChronoUnit.SECONDS);
+        final SuiteResultListener testEvents = testEvents(start);
+        final ResultTailer tailer =
+                ResultTailer.start(
+                        List.of(nodeResultDirectory(), getTemporaryDir().toPath()),
+                        start,
+                        testEvents,
+                        getLogger());
+        boolean passed = false;
+        try {
+            runTests(resolvedClassPath, launchClassPath, jvmArgs, start);
+            passed = true;
+        } finally {
+            tailer.stop();
+            testEvents.close(passed);
+        }
+    }
+
+    /**
+     * Run the tests.
+     *
+     * @param resolvedClassPath the executor class path, used to detect changes.
+     * @param launchClassPath the class path the executor is launched with.
+     * @param jvmArgs the executor JVM arguments.
+     * @param start the start of the run.
+     */
+    private void runTests(
+            final Set<File> resolvedClassPath,
+            final Set<File> launchClassPath,
+            final List<String> jvmArgs,
+            final Instant start) {
+        final Path resultDir = nodeResultDirectory();
+        final int maxShards = maxParallelShards();
+        final boolean rerunFailed = getRerunFailed().get();
+        final boolean incremental = !rerunFailed && getIncremental().get();
+        final int maxRetries = maxRetries();
+        final FlakySuites flaky = new FlakySuites();
+        PartialRun partialRun = null;
+        try {
+            final Optional<List<String>> selected =
+                    selectSuites(maxShards, incremental || rerunFailed || maxRetries > 0);
+            if (selected.isEmpty()) {
+                executeSingle(
+                        launchClassPath,
+                        jvmArgs,
+                        arguments(resultDir, getSuitesPathPattern().getOrNull(), null),
+                        resultDir,
+                        start);
+                return;
+            }
+
+            List<String> suites = selected.get();
+            Path runDir = resultDir;
+            if (rerunFailed) {
+                runDir = getTemporaryDir().toPath().resolve("rerun");
+                partialRun = startFailedRerun(resultDir, runDir, suites);
+                suites = partialRun.suitesToRun();
+            } else if (incremental) {
+                runDir = getTemporaryDir().toPath().resolve("incremental");
+                partialRun = startIncrementalRun(resultDir, runDir, suites, resolvedClassPath);
+                suites = partialRun.suitesToRun();
+            }
+
+            if (suites.isEmpty()) {
+                getLogger().lifecycle("No suites to run");
+                return;
+            }
+
+            try {
+                runSuites(suites, maxShards, runDir, launchClassPath, jvmArgs, start);
+            } catch (final GradleException e) {
+                if (maxRetries == 0) {
+                    throw e;
+                }
+                retryFailedSuites(
+                        e, suites, runDir, maxRetries, flaky, launchClassPath, jvmArgs, start);
+            }
+        } finally {
+            if (partialRun != null) {
+                partialRun.complete();
+            }
+            flaky.write(getFlakyReportFile().getAsFile().get().toPath());
+            recordTimings(resultDir, start);
+        }
+    }
+
+    private void runSuites(
+            final List<String> suites,
+            final int maxShards,
+            final Path runDir,
+            final Set<File> launchClassPath,
+            final List<String> jvmArgs,
+            final Instant runStart) {
+        final List<List<String>> shards = planShards(suites, maxShards);
+        if (shards.size() == 1) {
+            executeSingle(
+                    launchClassPath,
+                    jvmArgs,
+                    arguments(runDir, SuiteFinder.includePattern(suites), null),
+                    runDir,
+                    runStart);
+        } else {
+            runShards(shards, runDir, launchClassPath, jvmArgs, runStart);
+        }
+    }
+
+    /**
+     * Re-run failed suites in a fresh executor until they pass, or the retry limits are reached.
+     *
+     * @param failure the failure of the initial run, thrown if the failed suites do not pass.
+     */
+    private void retryFailedSuites(
+            final GradleException failure,
+            final List<String> suites,
+            final Path runDir,
+            final int maxRetries,
+            final FlakySuites flaky,
+            final Set<File> launchClassPath,
+            final List<String> jvmArgs,
+            final Instant runStart) {
+        final int maxFailures = getMaxRetryFailures().get();
+        final Path retryDir = getTemporaryDir().toPath().resolve("retry");
+        GradleException lastFailure = failure;
+        int totalFailures = 0;
+        try {
+            for (int retry = 1; retry <= maxRetries; retry++) {
+                final FailedRerun rerun =
+                        FailedRerun.start(
+                                getTestDirectory().getAsFile().get().toPath(),
+                                runDir,
+                                retryDir,
+                                suites,
+                                runStart);
+                if (rerun.failedNames().isEmpty()) {
+                    break;
+                }
+
+                if (!rerun.unmatchedNames().isEmpty()) {
+                    getLogger()
+                            .warn(
+                                    "Not retrying, as failed suite(s) could not be matched to a"
+                                            + " unique suite file: "
+                                            + String.join(", ", rerun.unmatchedNames()));
+                    break;
+                }
+
+                totalFailures += rerun.failedNames().size();
+                if (totalFailures > maxFailures) {
+                    getLogger()
+                            .lifecycle(
+                                    "Not retrying, as "
+                                            + totalFailures
+                                            + " suite failure(s) exceeds the maximum of "
+                                            + maxFailures);
+                    break;
+                }
+
+                getLogger()
+                        .lifecycle(
+                                "Retrying "
+                                        + rerun.suitesToRun().size()
+                                        + " failed suite(s), retry "
+                                        + retry
+                                        + " of "
+                                        + maxRetries);
+                try {
+                    executeSingle(
+                            launchClassPath,
+                            jvmArgs,
+                            arguments(
+                                    retryDir,
+                                    SuiteFinder.includePattern(rerun.suitesToRun()),
+                                    null),
+                            retryDir,
+                            runStart);
+                    return;
+                } catch (final GradleException e) {
+                    lastFailure = e;
+                } finally {
+                    flaky.passed(passedSuites(retryDir), retry + 1);
+                    rerun.complete();
+                }
+            }
+
+            throw lastFailure;
+        } finally {
+            if (!flaky.names().isEmpty()) {
+                getLogger()
+                        .warn(
+                                flaky.names().size()
+                                        + " suite(s) only passed when retried. See "
+                                        + getFlakyReportFile().getAsFile().get());
+            }
+        }
+    }
+
+    private static Set<String> passedSuites(final Path resultDir) {
+        return JUnitResultReader.readSuites(resultDir).stream()
+                .filter(result -> !result.failed())
+                .map(SuiteResult::name)
+                .collect(Collectors.toSet());
+    }
+
+    private int maxRetries() {
+        final int maxRetries = getMaxRetries().get();
+        if (maxRetries < 0) {
+            throw new IllegalArgumentException(
+                    "maxRetries must not be negative, but was: " + maxRetries);
+        }
+
+        if (maxRetries > 0 && getFailFast().get()) {
+            getLogger().info("Not retrying failed suites, as fail fast is enabled");
+            return 0;
+        }
+
+        return maxRetries;
+    }
+
+    private SuiteResultListener testEvents(final Instant start) {
+        if (GradleVersion.current().getBaseVersion().compareTo(MIN_TEST_EVENTS_VERSION) < 0) {
+            return SuiteResultListener.NONE;
+        }
+
+        try {
+            return getObjectFactory()
+                    .newInstance(
+                            GradleTestEvents.class,
+                            getName(),
+                            getTestEventResultsDirectory().get(),
+                            getTestReportDirectory().get(),
+                            start);
+        } catch (final RuntimeException e) {
+            getLogger().info("Suite results will not be reported as test events", e);
+            return SuiteResultListener.NONE;
+        }
+    }
+
+    private void executeSingle(
+            final Set<File> launchClassPath,
+            final List<String> jvmArgs,
+            final List<String> arguments,
+            final Path resultDir,
+            final Instant runStart) {
+        if (!failFast()) {
+            execute(launchClassPath, jvmArgs, arguments, resultDir, runStart, false);
+            return;
+        }
+
+        final int exitCode =
+                executeFailFast(
+                                launchClassPath,
+                                jvmArgs,
+                                List.of(arguments),
+                                List.of(resultDir),
+                                runStart)
+                        .get(0);
+        if (exitCode != 0) {
+            throw new GradleException(
+                    "System test executor finished with non-zero exit value " + exitCode);
+        }
+    }
+
+    private List<Integer> executeFailFast(
+            final Set<File> launchClassPath,
+            final List<String> jvmArgs,
+            final List<List<String>> arguments,
+            final List<Path> resultDirs,
+            final Instant runStart) {
+        final List<List<String>> commands =
+                arguments.stream()
+                        .map(
+                                args ->
+                                        FailFastRunner.javaCommand(
+                                                EXECUTOR_MAIN_CLASS,
+                                                launchClassPath,
+                                                jvmArgs,
+                                                args))
+                        .collect(Collectors.toList());
+
+        return new FailFastRunner(getLogger(), projectDir.toPath())
+                .run(commands, resultDirs, runStart);
+    }
+
+    private boolean failFast() {
+        if (!getFailFast().get()) {
+            return false;
+        }
+
+        if (getExecutionMode().get() != ExecutionMode.FORK) {
+            getLogger().info("Running the executor in a forked JVM, as fail fast is enabled");
+        }
+        return true;
+    }
+
+    private int execute(
+            final Set<File> launchClassPath,
+            final List<String> jvmArgs,
+            final List<String> arguments,
+            final Path resultDir,
+            final Instant runStart,
+            final boolean ignoreExitValue) {
+        final ExecutionMode mode = getExecutionMode().get();
+        if (mode != ExecutionMode.FORK) {
+            final int exitCode =
+                    mode == ExecutionMode.DAEMON
+                            ? executeInDaemon(
+                                    launchClassPath, jvmArgs, arguments, resultDir, runStart)
+                            : executeInWorkers(
+                                            launchClassPath,
+                                            jvmArgs,
+                                            List.of(arguments),
+                                            List.of(resultDir),
+                                            runStart)
+                                    .get(0);
+            if (exitCode != 0 && !ignoreExitValue) {
+                throw new GradleException(
+                        "System test executor finished with non-zero exit value " + exitCode);
+            }
+            return exitCode;
+        }
+
+        return getExecOperations()
                 .javaexec(
                         spec -> {
-                            spec.getMainClass()
-                                    .set(
-                                            "org.creekservice.api.system.test.executor.SystemTestExecutor");
-                            spec.setClasspath(classPath);
-                            spec.setArgs(arguments());
-                            spec.jvmArgs(jvmArgs());
+                            spec.getMainClass().set(EXECUTOR_MAIN_CLASS);
+                            spec.classpath(launchClassPath);
+                            spec.setArgs(arguments);
+                            spec.jvmArgs(jvmArgs);
+                            spec.setIgnoreExitValue(ignoreExitValue);
+                        })
+                .getExitValue();
+    }
+
+    private int executeInDaemon(
+            final Set<File> launchClassPath,
+            final List<String> jvmArgs,
+            final List<String> arguments,
+            final Path resultDir,
+            final Instant runStart) {
+        final DaemonSpec spec =
+                new DaemonSpec(
+                        EXECUTOR_MAIN_CLASS,
+                        launchClassPath,
+                        jvmArgs,
+                        projectDir.toPath(),
+                        getPath(),
+                        DaemonSpec.environment(System.getenv(), getDaemonEnvironment().get()),
+                        getDaemonIdleTimeout().get());
+
+        final int exitCode =
+                getExecutorDaemons().get().run(spec, arguments, System.out, System.err);
+        return exitCode != ExecutorDaemons.exitCodeUnknown()
+                ? exitCode
+                : exitCodeFromResults(resultDir, runStart);
+    }
+
+    /**
+     * Run executors as units of work in Gradle worker daemons.
+     *
+     * <p>Work must be submitted from the task's thread, so all executors are submitted together.
+     * Gradle limits how many run at once to the build's maximum number of workers.
+     *
+     * <p>The executor can not safely run twice in one JVM, and may exit the JVM. Each run is given
+     * a unique {@link #WORKER_RUN_PROPERTY}, so that Gradle starts a fresh worker for it, rather
+     * than reusing one from an earlier run.
+     *
+     * @return the exit code of each executor.
+     */
+    private List<Integer> executeInWorkers(
+            final Set<File> launchClassPath,
+            final List<String> jvmArgs,
+            final List<List<String>> arguments,
+            final List<Path> resultDirs,
+            final Instant runStart) {
+        final Path exitCodesDir = getTemporaryDir().toPath().resolve("workers");
+        ResultFiles.deleteDirectory(exitCodesDir);
+
+        final List<Path> exitCodeFiles = new ArrayList<>(arguments.size());
+        for (int i = 0; i < arguments.size(); i++) {
+            final List<String> args = arguments.get(i);
+            final Path exitCodeFile = exitCodesDir.resolve(i + ".exit");
+            exitCodeFiles.add(exitCodeFile);
+            isolatedWorker(launchClassPath, jvmArgs)
+                    .submit(
+                            ExecutorWork.class,
+                            params -> {
+                                params.getMainClass().set(EXECUTOR_MAIN_CLASS);
+                                params.getArguments().set(args);
+                                params.getExitCodeFile().set(exitCodeFile.toFile());
+                            });
+        }
+
+        WorkerExecutionException failure = null;
+        try {
+            getWorkerExecutor().await();
+        } catch (final WorkerExecutionException e) {
+            failure = e;
+        }
+
+        final List<Integer> exitCodes = new ArrayList<>(arguments.size());
+        for (int i = 0; i < arguments.size(); i++) {
+            final OptionalInt exitCode = ExecutorWork.readExitCode(exitCodeFiles.get(i));
+            if (exitCode.isPresent()) {
+                exitCodes.add(exitCode.getAsInt());
+                continue;
+            }
+
+            final Path resultDir = resultDirs.get(i);
+            if (failure != null && JUnitResultReader.anyFailed(resultDir, runStart).isEmpty()) {
+                throw new GradleException("System test executor worker failed", failure);
+            }
+            exitCodes.add(exitCodeFromResults(resultDir, runStart));
+        }
+        return exitCodes;
+    }
+
+    private WorkQueue isolatedWorker(final Set<File> launchClassPath, final List<String> jvmArgs) {
+        return getWorkerExecutor()
+                .processIsolation(
+                        spec -> {
+                            spec.getClasspath().from(launchClassPath);
+                            spec.forkOptions(
+                                    fork -> {
+                                        fork.jvmArgs(jvmArgs);
+                                        fork.systemProperty(
+                                                WORKER_RUN_PROPERTY, UUID.randomUUID().toString());
+                                        fork.setWorkingDir(projectDir);
+                                    });
                         });
     }
 
+    private int exitCodeFromResults(final Path resultDir, final Instant runStart) {
+        // The executor exited the JVM, so determine the outcome from this run's results:
+        getLogger().info("Executor exited without an exit code. Checking result files");
+        final Optional<Boolean> anyFailed = JUnitResultReader.anyFailed(resultDir, runStart);
+        if (anyFailed.isEmpty()) {
+            getLogger()
+                    .error(
+                            "System test executor exited without an exit code or writing results"
+                                    + " to "
+                                    + resultDir);
+            return 1;
+        }
+        return anyFailed.get() ? 1 : 0;
+    }
+
+    private int maxParallelShards() {
+        final int maxShards = getMaxParallelShards().get();
+        if (maxShards < 1) {
+            throw new IllegalArgumentException(
+                    "maxParallelShards must be positive, but was: " + maxShards);
+        }
+
+        if (maxShards > 1 && !nothingToDebug()) {
+            getLogger().info("Running suites in a single executor, as services are being debugged");
+            return 1;
+        }
+
+        return maxShards;
+    }
+
+    /**
+     * @return the suites to run, or empty if all suites matching the include pattern should be run
+     *     in a single executor.
+     */
+    private Optional<List<String>> selectSuites(final int maxShards, final boolean partial) {
+        final Optional<ShardSpec> nodeShard = nodeShard();
+        if (nodeShard.isEmpty() && maxShards == 1 && !partial) {
+            return Optional.empty();
+        }
+
+        final List<String> suites =
+                SuiteFinder.findSuites(
+                        getTestDirectory().getAsFile().get().toPath(),
+                        Pattern.compile(getSuitesPathPattern().get()));
+
+        return Optional.of(nodeShard.map(shard -> shard.select(suites)).orElse(suites));
+    }
+
+    private IncrementalRun startIncrementalRun(
+            final Path resultDir,
+            final Path stagingDir,
+            final List<String> suites,
+            final Set<File> resolvedClassPath) {
+        final List<String> settings = new ArrayList<>();
+        settings.add(getVerificationTimeoutSeconds().get());
+        settings.addAll(getExtraArguments().get());
+        getServiceImageIds().get().forEach((image, id) -> settings.add(image + "=" + id));
+
+        final IncrementalRun run =
+                IncrementalRun.start(
+                        getTestDirectory().getAsFile().get().toPath(),
+                        resultDir,
+                        stagingDir,
+                        getFingerprintFile().getAsFile().get().toPath(),
+                        suites,
+                        SuiteFingerprints.environment(resolvedClassPath, settings));
+
+        if (run.unchangedCount() > 0) {
+            getLogger()
+                    .lifecycle(
+                            "Skipping "
+                                    + run.unchangedCount()
+                                    + " suite(s) unchanged since they last passed");
+        }
+        return run;
+    }
+
+    private FailedRerun startFailedRerun(
+            final Path resultDir, final Path stagingDir, final List<String> suites) {
+        final FailedRerun run =
+                FailedRerun.start(
+                        getTestDirectory().getAsFile().get().toPath(),
+                        resultDir,
+                        stagingDir,
+                        suites);
+
+        if (!run.unmatchedNames().isEmpty()) {
+            getLogger()
+                    .warn(
+                            "Re-running all suites, as failed suite(s) could not be matched to a"
+                                    + " unique suite file: "
+                                    + String.join(", ", run.unmatchedNames()));
+        } else if (!run.failedNames().isEmpty()) {
+            getLogger().lifecycle("Re-running " + run.suitesToRun().size() + " failed suite(s)");
+        }
+        return run;
+    }
+
+    private List<List<String>> planShards(final List<String> suites, final int maxShards) {
+        final SuiteTimings timings = SuiteTimings.load(timingHistoryFile());
+        final double unknown = timings.averageEstimate().orElse(1);
+        return ShardPlanner.plan(
+                suites, maxShards, suite -> timings.estimate(suite).orElse(unknown));
+    }
+
+    private List<String> executorJvmArgs(final Set<File> launchClassPath) {
+        final List<String> args = new ArrayList<>();
+        cdsArchive(launchClassPath)
+                .ifPresent(archive -> args.add("-XX:SharedArchiveFile=" + archive));
+        args.addAll(getExecutorLaunchJvmArgs().get());
+        return List.copyOf(args);
+    }
+
+    private static List<String> concat(final List<String> first, final List<String> second) {
+        final List<String> all = new ArrayList<>(first);
+        all.addAll(second);
+        return List.copyOf(all);
+    }
+
+    private Optional<Path> cdsArchive(final Set<File> launchClassPath) {
+        if (!getClassDataSharing().get()) {
+            return Optional.empty();
+        }
+
+        if (getExecutionMode().get() == ExecutionMode.WORKER) {
+            // Worker daemons have Gradle's class path, which does not match the archive's:
+            getLogger().info("Not using class data sharing, as the executor runs in a worker");
+            return Optional.empty();
+        }
+
+        final Optional<Path> archive =
+                ExecutorCds.archiveFile(getCdsArchiveDirectory().get(), launchClassPath);
+        if (archive.isEmpty()) {
+            getLogger().info("No class data sharing archive for the executor's class path");
+        }
+        return archive;
+    }
+
+    private Optional<ShardSpec> nodeShard() {
+        return Optional.ofNullable(getShard().getOrNull()).map(ShardSpec::parse);
+    }
+
+    private Path nodeResultDirectory() {
+        return nodeShard()
+                .map(shard -> resultDirectory().resolve(shard.name()))
+                .orElseGet(this::resultDirectory);
+    }
+
+    private void recordTimings(final Path resultDir, final Instant runStart) {
+        try {
+            final List<SuiteResult> results = JUnitResultReader.readSuites(resultDir, runStart);
+            if (results.isEmpty()) {
+                return;
+            }
+
+            final Path testDir = getTestDirectory().getAsFile().get().toPath();
+            final Map<String, String> suitesByName =
+                    SuiteFinder.suitesByName(
+                            testDir, SuiteFinder.findSuites(testDir, Pattern.compile(".*")));
+
+            final SuiteTimings timings = SuiteTimings.load(timingHistoryFile());
+            results.forEach(
+                    result -> {
+                        final String suite = suitesByName.get(result.name());
+                        if (suite != null) {
+                            timings.record(suite, result.timeSeconds());
+                        }
+                    });
+            timings.save(timingHistoryFile());
+        } catch (final RuntimeException e) {
+            getLogger().warn("Failed to update suite timing history: " + e.getMessage(), e);
+        }
+    }
+
+    private Path timingHistoryFile() {
+        return getTimingHistoryFile().getAsFile().get().toPath();
+    }
+
+    private void runShards(
+            final List<List<String>> shards,
+            final Path resultDir,
+            final Set<File> launchClassPath,
+            final List<String> jvmArgs,
+            final Instant runStart) {
+        final Path shardsDir = getTemporaryDir().toPath().resolve("shards");
+        ResultFiles.deleteDirectory(shardsDir);
+
+        final List<String> names = new ArrayList<>(shards.size());
+        final List<Path> shardDirs = new ArrayList<>(shards.size());
+        final List<List<String>> arguments = new ArrayList<>(shards.size());
+        for (int i = 0; i < shards.size(); i++) {
+            final String name = "shard-" + (i + 1);
+            final Path shardDir = shardsDir.resolve(name);
+            final List<String> suites = shards.get(i);
+
+            getLogger().lifecycle("Running " + suites.size() + " suite(s) in " + name);
+            names.add(name);
+            shardDirs.add(shardDir);
+            arguments.add(arguments(shardDir, SuiteFinder.includePattern(suites), name));
+        }
+
+        final List<Integer> exitCodes;
+        if (failFast()) {
+            exitCodes = executeFailFast(launchClassPath, jvmArgs, arguments, shardDirs, runStart);
+        } else if (getExecutionMode().get() == ExecutionMode.WORKER) {
+            exitCodes = executeInWorkers(launchClassPath, jvmArgs, arguments, shardDirs, runStart);
+        } else {
+            exitCodes = executeInParallel(launchClassPath, jvmArgs, arguments, shardDirs, runStart);
+        }
+
+        final List<String> failed = new ArrayList<>();
+        for (int i = 0; i < exitCodes.size(); i++) {
+            if (exitCodes.get(i) != 0) {
+                failed.add(names.get(i));
+            }
+        }
+
+        mergeShardResults(shardsDir, names, resultDir);
+
+        if (!failed.isEmpty()) {
+            throw new GradleException("System tests failed in " + String.join(", ", failed));
+        }
+    }
+
+    private List<Integer> executeInParallel(
+            final Set<File> launchClassPath,
+            final List<String> jvmArgs,
+            final List<List<String>> arguments,
+            final List<Path> resultDirs,
+            final Instant runStart) {
+        final List<Future<Integer>> executions = new ArrayList<>(arguments.size());
+        final ExecutorService pool = Executors.newFixedThreadPool(arguments.size());
+        try {
+            for (int i = 0; i < arguments.size(); i++) {
+                final List<String> args = arguments.get(i);
+                final Path resultDir = resultDirs.get(i);
+                executions.add(
+                        pool.submit(
+                                () ->
+                                        execute(
+                                                launchClassPath,
+                                                jvmArgs,
+                                                args,
+                                                resultDir,
+                                                runStart,
+                                                true)));
+            }
+
+            final List<Integer> exitCodes = new ArrayList<>(executions.size());
+            for (final Future<Integer> execution : executions) {
+                exitCodes.add(awaitExecution(execution));
+            }
+            return exitCodes;
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    private static int awaitExecution(final Future<Integer> execution) {
+        try {
+            return execution.get();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new GradleException("Interrupted waiting for system tests to complete", e);
+        } catch (final ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new GradleException("Failed to run system tests", e.getCause());
+        }
+    }
+
+    private static void mergeShardResults(
+            final Path shardsDir, final List<String> names, final Path resultDir) {
+        ResultFiles.deleteDirectory(resultDir);
+        try {
+            Files.createDirectories(resultDir);
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        names.forEach(name -> ResultFiles.moveInto(shardsDir.resolve(name), resultDir));
+    }
+
     private void initialiseCoverage() {
         final Action<Object> initializer =
                 ignored -> {
                     dependsOn(
                             getProject()
-                                    .getTasksByName(
-                                            SystemTestPlugin.PREPARE_COVERAGE_TASK_NAME, false));
+                                    .getTasks()
+                                    .named(SystemTestPlugin.PREPARE_COVERAGE_TASK_NAME));
 
-                    getExtensions()
-                            .create(COVERAGE_EXT_NAME, SystemTestCoverageExtension.class, this);
+                    coverage =
+                            getExtensions()
+                                    .create(
+                                            COVERAGE_EXT_NAME,
+                                            SystemTestCoverageExtension.class,
+                                            this);
                 };
 
         // Initialize coverage if the Jacoco plugin is present, or added later:
@@ -269,54 +1399,49 @@ public abstract class SystemTest extends DefaultTask {
     }
 
     private void cleanUp() {
-        final SystemTestCoverageExtension ext =
-                getExtensions().findByType(SystemTestCoverageExtension.class);
-        if (ext != null) {
-            ext.cleanUp();
+        if (coverage != null) {
+            coverage.cleanUp();
             getLogger()
                     .info(
                             "Coverage data will be written to "
-                                    + ext.getResultMountDirectory().get());
+                                    + coverage.getResultMountDirectory().get());
         }
     }
 
     private void checkDependenciesIncludesRunner() {
-        final Configuration configuration =
-                getProject()
-                        .getConfigurations()
-                        .getByName(SystemTestPlugin.EXECUTOR_CONFIGURATION_NAME);
-        configuration.resolve();
-
-        final Optional<Dependency> executorDep =
-                configuration.getDependencies().stream()
-                        .filter(dep -> EXECUTOR_DEP_GROUP_NAME.equals(dep.getGroup()))
-                        .filter(dep -> EXECUTOR_DEP_ARTEFACT_NAME.equals(dep.getName()))
-                        .findFirst();
-
-        if (executorDep.isEmpty()) {
+        if (!getExecutorVersion().isPresent()) {
             throw new MissingExecutorDependencyException();
         }
 
-        getLogger().debug("Using system test executor version: " + executorDep.get().getVersion());
+        getLogger().debug("Using system test executor version: " + getExecutorVersion().get());
     }
 
-    private List<String> arguments() {
+    private Path resultDirectory() {
+        return getResultDirectory().getAsFile().get().toPath().toAbsolutePath();
+    }
+
+    /**
+     * @param resultDir the directory the executor should write results to.
+     * @param includeSuites the pattern the executor should use to select suites.
+     * @param shardName the name of the shard being run, or {@code null} if not sharding.
+     */
+    private List<String> arguments(
+            final Path resultDir, final String includeSuites, final String shardName) {
         final List<String> arguments = new ArrayList<>();
-        arguments.addAll(commonArguments());
-        arguments.addAll(coverageArguments());
+        arguments.addAll(commonArguments(resultDir, includeSuites));
+        arguments.addAll(coverageArguments(shardName));
         arguments.addAll(debugArguments());
         arguments.addAll(getExtraArguments().get());
         return arguments;
     }
 
-    private List<String> commonArguments() {
+    private List<String> commonArguments(final Path resultDir, final String includeSuites) {
         return List.of(
                 "--test-directory="
                         + getTestDirectory().getAsFile().get().toPath().toAbsolutePath(),
-                "--result-directory="
-                        + getResultDirectory().getAsFile().get().toPath().toAbsolutePath(),
+                "--result-directory=" + resultDir,
                 "--verifier-timeout-seconds=" + getVerificationTimeoutSeconds().getOrNull(),
-                "--include-suites=" + getSuitesPathPattern().getOrNull());
+                "--include-suites=" + includeSuites);
     }
 
     private List<String> debugArguments() {
@@ -328,7 +1453,7 @@ public abstract class SystemTest extends DefaultTask {
         args.add("--debug-service-port=" + getDebugBaseServicePort().get());
         args.add(
                 "--mount-read-only="
-                        + debugPrepareTask.getMountDirectory().get()
+                        + getDebugAgentDirectory().get()
                         + "="
                         + CONTAINER_DEBUG_MOUNT);
 
@@ -350,14 +1475,16 @@ public abstract class SystemTest extends DefaultTask {
         return args;
     }
 
-    private List<String> coverageArguments() {
-        final SystemTestCoverageExtension ext =
-                getExtensions().findByType(SystemTestCoverageExtension.class);
-        if (ext == null) {
+    private List<String> coverageArguments(final String shardName) {
+        if (coverage == null) {
             return List.of();
         }
 
-        final List<String> args = new ArrayList<>(ext.mountOptions());
+        final List<String> args =
+                new ArrayList<>(
+                        shardName == null
+                                ? coverage.mountOptions()
+                                : coverage.mountOptions(shardName));
         final String jto = javaToolOptions(false);
         if (!jto.isBlank()) {
             args.add("--env=" + jto);
@@ -384,9 +1511,8 @@ public abstract class SystemTest extends DefaultTask {
             return "";
         }
 
-        final Path agentJar =
-                debugPrepareTask
-                        .getAgentJarFileName()
+        final String agentJar =
+                Optional.ofNullable(getDebugAgentJarName().getOrNull())
                         .orElseThrow(
                                 () ->
                                         new IllegalStateException(
@@ -408,13 +1534,14 @@ public abstract class SystemTest extends DefaultTask {
     }
 
     private String coverageJavaToolOptions() {
-        final SystemTestCoverageExtension ext =
-                getExtensions().findByType(SystemTestCoverageExtension.class);
+        final SystemTestCoverageExtension ext = coverage;
         if (ext == null) {
             return "";
         }
 
-        return ext.asJavaToolOptions();
+        return nodeShard()
+                .map(shard -> ext.asJavaToolOptions(shard.name()))
+                .orElseGet(ext::asJavaToolOptions);
     }
 
     private boolean nothingToDebug() {
@@ -422,20 +1549,19 @@ public abstract class SystemTest extends DefaultTask {
                 && getDebugServiceInstanceNames().get().isEmpty();
     }
 
-    private List<String> jvmArgs() {
-        final Object jvmArgs = getProject().findProperty("org.gradle.jvmargs");
-        if ((!(jvmArgs instanceof String))) {
-            return List.of();
-        }
-
-        return List.of(((String) jvmArgs).split("\\s+"));
-    }
-
-    private static PrepareDebug prepareDebugTask(final Project project) {
-        return (PrepareDebug)
-                project.getTasksByName(SystemTestPlugin.PREPARE_DEBUG_TASK_NAME, false)
-                        .iterator()
-                        .next();
+    private static Provider<String> executorVersion(final Project project) {
+        return project.provider(
+                () ->
+                        project
+                                .getConfigurations()
+                                .getByName(SystemTestPlugin.EXECUTOR_CONFIGURATION_NAME)
+                                .getDependencies()
+                                .stream()
+                                .filter(dep -> EXECUTOR_DEP_GROUP_NAME.equals(dep.getGroup()))
+                                .filter(dep -> EXECUTOR_DEP_ARTEFACT_NAME.equals(dep.getName()))
+                                .findFirst()
+                                .map(dep -> String.valueOf(dep.getVersion()))
+                                .orElse(null));
     }
 
     private static final class MissingExecutorDependencyException extends GradleException {
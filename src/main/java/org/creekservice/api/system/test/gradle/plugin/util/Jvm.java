@@ -0,0 +1,37 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.system.test.gradle.plugin.util;
+
+import java.nio.file.Path;
+import java.util.Locale;
+
+/** Helpers for launching Java processes. */
+public final class Jvm {
+
+    private Jvm() {}
+
+    /**
+     * @return the {@code java} executable of the JVM Gradle is running in.
+     */
+    public static Path javaExecutable() {
+        final String exe =
+                System.getProperty("os.name", "").toLowerCase(Locale.ROOT).contains("win")
+                        ? "java.exe"
+                        : "java";
+        return Path.of(System.getProperty("java.home"), "bin", exe);
+    }
+}
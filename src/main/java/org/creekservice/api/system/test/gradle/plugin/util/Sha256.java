@@ -0,0 +1,135 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.system.test.gradle.plugin.util;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.stream.Stream;
+
+/** Builds SHA-256 hashes of values and files, e.g. for cache keys and fingerprints. */
+public final class Sha256 {
+
+    private final MessageDigest digest;
+
+    private Sha256(final MessageDigest digest) {
+        this.digest = digest;
+    }
+
+    /**
+     * @return a new, empty, hash.
+     */
+    public static Sha256 create() {
+        try {
+            return new Sha256(MessageDigest.getInstance("SHA-256"));
+        } catch (final NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Add a value.
+     *
+     * <p>Each value is terminated, so that e.g. {@code "ab", "c"} and {@code "a", "bc"} hash
+     * differently.
+     *
+     * @param value the value to add.
+     * @return self.
+     */
+    public Sha256 add(final String value) {
+        digest.update(value.getBytes(UTF_8));
+        digest.update((byte) 0);
+        return this;
+    }
+
+    /**
+     * Add the content of a file.
+     *
+     * @param file the file to add.
+     * @return self.
+     */
+    public Sha256 addContent(final Path file) {
+        final byte[] buffer = new byte[8192];
+        try (InputStream in = Files.newInputStream(file)) {
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                digest.update(buffer, 0, read);
+            }
+        } catch (final IOException e) {
+            throw new UncheckedIOException("Failed to read " + file, e);
+        }
+        return this;
+    }
+
+    /**
+     * Add the absolute path, size and modification time of a file, or of each file under a
+     * directory.
+     *
+     * <p>This is cheaper than hashing content, and changes whenever a file is rebuilt. Only the
+     * path of a missing file is added.
+     *
+     * @param path the file or directory to add.
+     * @return self.
+     */
+    public Sha256 addAttributes(final Path path) {
+        if (!Files.isDirectory(path)) {
+            addFileAttributes(path);
+            return this;
+        }
+
+        try (Stream<Path> files = Files.walk(path)) {
+            files.filter(Files::isRegularFile).sorted().forEach(this::addFileAttributes);
+        } catch (final IOException e) {
+            throw new UncheckedIOException("Failed to list " + path, e);
+        }
+        return this;
+    }
+
+    /**
+     * @return the hash, in hex.
+     */
+    public String hex() {
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    /**
+     * @param bytes the number of bytes of the hash to include.
+     * @return the leading {@code bytes} of the hash, in hex.
+     */
+    public String hex(final int bytes) {
+        return HexFormat.of().formatHex(digest.digest(), 0, bytes);
+    }
+
+    private void addFileAttributes(final Path file) {
+        add(file.toAbsolutePath().toString());
+        try {
+            if (Files.exists(file)) {
+                add(String.valueOf(Files.size(file)));
+                add(String.valueOf(Files.getLastModifiedTime(file).toMillis()));
+            }
+        } catch (final IOException e) {
+            throw new UncheckedIOException("Failed to read attributes of " + file, e);
+        }
+    }
+}
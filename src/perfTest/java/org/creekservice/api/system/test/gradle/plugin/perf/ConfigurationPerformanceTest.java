@@ -0,0 +1,178 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.system.test.gradle.plugin.perf;
+
+import static org.gradle.testkit.runner.TaskOutcome.UP_TO_DATE;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.everyItem;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.gradle.testkit.runner.BuildResult;
+import org.gradle.testkit.runner.BuildTask;
+import org.gradle.testkit.runner.GradleRunner;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+/**
+ * Configuration-time performance regression suite.
+ *
+ * <p>Runs synthetic builds of different sizes, with and without JaCoCo, measuring configuration
+ * time, up-to-date check time and configuration cache reuse. Each measurement is the median of
+ * several runs, after warm-up runs, and fails if it regresses against the recorded baseline.
+ */
+class ConfigurationPerformanceTest {
+
+    private static final int WARM_UP_RUNS = 2;
+    private static final int MEASURED_RUNS = 5;
+    private static final String INIT_SCRIPT =
+            "--init-script=" + System.getProperty("perf.initScript");
+
+    private static PerfBaseline baseline;
+
+    @TempDir private Path buildDir;
+
+    @BeforeAll
+    static void beforeAll() {
+        baseline =
+                PerfBaseline.load(
+                        Path.of(System.getProperty("perf.baselineFile")),
+                        Double.parseDouble(System.getProperty("perf.tolerance", "0.5")));
+    }
+
+    @AfterAll
+    static void afterAll() {
+        baseline.save(Path.of(System.getProperty("perf.resultsFile")));
+        if (updateBaseline()) {
+            baseline.updateBaseline(Path.of(System.getProperty("perf.baselineFile")));
+        }
+    }
+
+    @ParameterizedTest(name = "projects={0}, jacoco={1}")
+    @MethodSource("scenarios")
+    void shouldNotRegressConfigurationTime(final int projects, final boolean jacoco) {
+        // Given:
+        SyntheticBuild.write(buildDir, projects, jacoco);
+
+        // When:
+        final long millis = medianMillis("help");
+
+        // Then:
+        assertNoRegression(key(projects, jacoco, "configuration"), millis);
+    }
+
+    @ParameterizedTest(name = "projects={0}, jacoco={1}")
+    @MethodSource("scenarios")
+    void shouldNotRegressUpToDateCheckTime(final int projects, final boolean jacoco) {
+        // Given:
+        SyntheticBuild.write(buildDir, projects, jacoco);
+        run("systemTest");
+
+        // When:
+        final long millis = medianMillis("systemTest");
+
+        // Then:
+        final List<BuildTask> systemTests =
+                run("systemTest").getTasks().stream()
+                        .filter(task -> task.getPath().endsWith(":systemTest"))
+                        .collect(Collectors.toList());
+        assertThat(systemTests, hasSize(projects));
+        assertThat(
+                systemTests.stream().map(BuildTask::getOutcome).collect(Collectors.toList()),
+                everyItem(is(UP_TO_DATE)));
+        assertNoRegression(key(projects, jacoco, "up-to-date"), millis);
+    }
+
+    @ParameterizedTest(name = "projects={0}, jacoco={1}")
+    @MethodSource("scenarios")
+    void shouldReuseConfigurationCache(final int projects, final boolean jacoco) {
+        // Given:
+        SyntheticBuild.write(buildDir, projects, jacoco);
+        run("help", "--configuration-cache");
+
+        // When:
+        final long millis = medianMillis("help", "--configuration-cache");
+
+        // Then:
+        assertThat(
+                run("help", "--configuration-cache").getOutput(),
+                containsString("Reusing configuration cache."));
+        assertNoRegression(key(projects, jacoco, "configuration-cache"), millis);
+    }
+
+    @SuppressWarnings("unused") // Invoked via reflection
+    private static Stream<Arguments> scenarios() {
+        return Arrays.stream(System.getProperty("perf.projectCounts", "1,100,1000").split(","))
+                .map(String::trim)
+                .map(Integer::valueOf)
+                .flatMap(count -> Stream.of(Arguments.of(count, false), Arguments.of(count, true)));
+    }
+
+    private long medianMillis(final String... args) {
+        for (int i = 0; i < WARM_UP_RUNS; i++) {
+            run(args);
+        }
+
+        final List<Long> timings = new ArrayList<>(MEASURED_RUNS);
+        for (int i = 0; i < MEASURED_RUNS; i++) {
+            final long start = System.nanoTime();
+            run(args);
+            timings.add((System.nanoTime() - start) / 1_000_000);
+        }
+
+        timings.sort(Long::compare);
+        return timings.get(MEASURED_RUNS / 2);
+    }
+
+    private BuildResult run(final String... args) {
+        final List<String> allArgs = new ArrayList<>(List.of(INIT_SCRIPT));
+        allArgs.addAll(List.of(args));
+
+        return GradleRunner.create()
+                .withProjectDir(buildDir.toFile())
+                .withArguments(allArgs)
+                .withPluginClasspath()
+                .build();
+    }
+
+    private static void assertNoRegression(final String key, final long millis) {
+        System.out.println(key + ": " + millis + "ms");
+        baseline.record(key, millis)
+                .filter(regression -> !updateBaseline())
+                .ifPresent(regression -> fail(regression));
+    }
+
+    private static String key(final int projects, final boolean jacoco, final String measure) {
+        return "projects-" + projects + (jacoco ? ".jacoco." : ".plain.") + measure;
+    }
+
+    private static boolean updateBaseline() {
+        return Boolean.getBoolean("perf.updateBaseline");
+    }
+}
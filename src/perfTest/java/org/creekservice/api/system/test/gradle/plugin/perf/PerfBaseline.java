@@ -0,0 +1,133 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.system.test.gradle.plugin.perf;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.TreeMap;
+
+/**
+ * Baseline timings of the configuration-time performance suite.
+ *
+ * <p>A measurement regresses if it exceeds its baseline by more than the relative tolerance, plus a
+ * small fixed allowance to absorb noise in very short timings. Measurements without a baseline
+ * fail, so that new measurements can not silently go unchecked.
+ */
+final class PerfBaseline {
+
+    private static final long NOISE_ALLOWANCE_MS = 250;
+
+    private final Map<String, Long> baseline;
+    private final Map<String, Long> results = new TreeMap<>();
+    private final double tolerance;
+
+    private PerfBaseline(final Map<String, Long> baseline, final double tolerance) {
+        this.baseline = baseline;
+        this.tolerance = tolerance;
+    }
+
+    /**
+     * Load a baseline.
+     *
+     * @param file the baseline file, which need not exist.
+     * @param tolerance the allowed relative increase over the baseline, e.g. {@code 0.5} for 50%.
+     * @return the baseline.
+     */
+    static PerfBaseline load(final Path file, final double tolerance) {
+        final Map<String, Long> baseline = new TreeMap<>();
+        if (Files.exists(file)) {
+            final Properties props = new Properties();
+            try (Reader reader = Files.newBufferedReader(file, UTF_8)) {
+                props.load(reader);
+            } catch (final IOException e) {
+                throw new UncheckedIOException("Failed to load baseline from " + file, e);
+            }
+            props.stringPropertyNames()
+                    .forEach(key -> baseline.put(key, Long.valueOf(props.getProperty(key).trim())));
+        }
+        return new PerfBaseline(baseline, tolerance);
+    }
+
+    /**
+     * Record a measurement and compare it to the baseline.
+     *
+     * @param key the name of the measurement.
+     * @param millis the measured time, in milliseconds.
+     * @return a description of the regression, if the measurement regressed.
+     */
+    synchronized Optional<String> record(final String key, final long millis) {
+        results.put(key, millis);
+
+        final Long expected = baseline.get(key);
+        if (expected == null) {
+            return Optional.of(key + " took " + millis + "ms, but has no baseline");
+        }
+
+        final long limit = (long) (expected * (1 + tolerance)) + NOISE_ALLOWANCE_MS;
+        if (millis <= limit) {
+            return Optional.empty();
+        }
+
+        return Optional.of(
+                key + " took " + millis + "ms, exceeding its baseline of " + expected + "ms");
+    }
+
+    /**
+     * Save the recorded measurements.
+     *
+     * @param file the file to save to.
+     */
+    synchronized void save(final Path file) {
+        store(results, file);
+    }
+
+    /**
+     * Update a baseline file with the recorded measurements.
+     *
+     * <p>Baseline entries without a new measurement are kept.
+     *
+     * @param file the baseline file to update.
+     */
+    synchronized void updateBaseline(final Path file) {
+        final Map<String, Long> updated = new TreeMap<>(baseline);
+        updated.putAll(results);
+        store(updated, file);
+    }
+
+    private static void store(final Map<String, Long> timings, final Path file) {
+        final Properties props = new Properties();
+        timings.forEach((key, millis) -> props.setProperty(key, String.valueOf(millis)));
+
+        try {
+            Files.createDirectories(file.toAbsolutePath().getParent());
+            try (Writer writer = Files.newBufferedWriter(file, UTF_8)) {
+                props.store(writer, "Creek system test plugin configuration timings, in ms");
+            }
+        } catch (final IOException e) {
+            throw new UncheckedIOException("Failed to save timings to " + file, e);
+        }
+    }
+}
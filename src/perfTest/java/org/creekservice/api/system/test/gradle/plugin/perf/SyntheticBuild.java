@@ -0,0 +1,85 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.system.test.gradle.plugin.perf;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/** Generates a synthetic multi-project build in which every project applies the plugin. */
+final class SyntheticBuild {
+
+    private SyntheticBuild() {}
+
+    /**
+     * Write a synthetic build.
+     *
+     * @param rootDir the directory to write the build to.
+     * @param projectCount the number of projects applying the plugin.
+     * @param jacoco whether each project also applies the JaCoCo plugin.
+     */
+    static void write(final Path rootDir, final int projectCount, final boolean jacoco) {
+        write(rootDir.resolve("settings.gradle.kts"), settings(projectCount));
+        write(rootDir.resolve("gradle.properties"), "org.gradle.parallel=true\n");
+
+        for (int i = 0; i < projectCount; i++) {
+            final Path projectDir = rootDir.resolve(projectName(i));
+            write(projectDir.resolve("build.gradle.kts"), buildScript(jacoco));
+            write(projectDir.resolve("src/system-test/suite.yml"), "name: suite " + i + "\n");
+        }
+    }
+
+    private static String settings(final int projectCount) {
+        return "rootProject.name = \"synthetic\"\n"
+                + IntStream.range(0, projectCount)
+                        .mapToObj(i -> "include(\"" + projectName(i) + "\")\n")
+                        .collect(Collectors.joining());
+    }
+
+    private static String buildScript(final boolean jacoco) {
+        return "plugins {\n"
+                + "    id(\"org.creekservice.system.test\")\n"
+                + (jacoco ? "    java\n    jacoco\n" : "")
+                + "}\n"
+                + "\n"
+                + "repositories {\n"
+                + "    mavenCentral()\n"
+                + "}\n"
+                + "\n"
+                + "creek.systemTest {\n"
+                + "    extraArguments(\"--echo-only\")\n"
+                + "}\n";
+    }
+
+    private static String projectName(final int index) {
+        return "project-" + index;
+    }
+
+    private static void write(final Path file, final String content) {
+        try {
+            Files.createDirectories(file.getParent());
+            Files.writeString(file, content, UTF_8);
+        } catch (final IOException e) {
+            throw new UncheckedIOException("Failed to write " + file, e);
+        }
+    }
+}
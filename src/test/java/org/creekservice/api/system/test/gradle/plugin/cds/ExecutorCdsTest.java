@@ -0,0 +1,126 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.creekservice.api.system.test.gradle.plugin.cds;
+
+import static org.creekservice.api.system.test.gradle.plugin.TaskTestBase.ExpectedOutcome.PASS;
+import static org.gradle.testkit.runner.TaskOutcome.SUCCESS;
+import static org.gradle.testkit.runner.TaskOutcome.UP_TO_DATE;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.nullValue;
+
+import java.nio.file.Files;
+import java.util.stream.Stream;
+import org.creekservice.api.system.test.gradle.plugin.TaskTestBase;
+import org.gradle.testkit.runner.BuildResult;
+import org.junitpioneer.jupiter.cartesian.CartesianTest;
+import org.junitpioneer.jupiter.cartesian.CartesianTest.MethodFactory;
+
+@SuppressWarnings("ConstantConditions")
+class ExecutorCdsTest extends TaskTestBase {
+
+    // Change this to true locally to debug using attach-me plugin:
+    private static final boolean DEBUG = false;
+
+    private static final String TASK_NAME = ":systemTestExecutorCds";
+    private static final String SYSTEM_TEST_TASK_NAME = ":systemTest";
+
+    ExecutorCdsTest() {
+        super(DEBUG);
+    }
+
+    @CartesianTest(name = "{displayName} flavour={0}, gradleVersion={1}")
+    @MethodFactory("flavoursAndVersions")
+    void shouldNotRunIfClassDataSharingNotEnabled(
+            final String flavour, final String gradleVersion) {
+        // Given:
+        givenProject(flavour + "/default");
+
+        // When:
+        final BuildResult result = executeTask(PASS, gradleVersion, "--info");
+
+        // Then:
+        assertThat(result.task(TASK_NAME), is(nullValue()));
+        assertThat(result.getOutput(), not(containsString("-XX:SharedArchiveFile=")));
+    }
+
+    @CartesianTest(name = "{displayName} flavour={0}, gradleVersion={1}")
+    @MethodFactory("flavoursAndVersions")
+    void shouldCreateArchiveAndPassToExecutor(final String flavour, final String gradleVersion) {
+        // Given:
+        givenProject(flavour + "/cds");
+
+        // When:
+        final BuildResult result = executeTask(PASS, gradleVersion, "--info");
+
+        // Then:
+        assertThat(result.task(TASK_NAME).getOutcome(), is(SUCCESS));
+        assertThat(archiveCount(), is(1L));
+        assertThat(
+                result.getOutput(),
+                containsString("-XX:SharedArchiveFile=" + projectPath("build/creek/executor-cds")));
+    }
+
+    @CartesianTest(name = "{displayName} flavour={0}, gradleVersion={1}")
+    @MethodFactory("flavoursAndVersions")
+    void shouldBeUpToDateIfClassPathUnchanged(final String flavour, final String gradleVersion) {
+        // Given:
+        givenProject(flavour + "/cds");
+        executeTask(PASS, gradleVersion);
+
+        // When:
+        final BuildResult result = executeTask(PASS, gradleVersion, "--info");
+
+        // Then:
+        assertThat(result.task(TASK_NAME).getOutcome(), is(UP_TO_DATE));
+        assertThat(archiveCount(), is(1L));
+        assertThat(result.getOutput(), containsString("-XX:SharedArchiveFile="));
+    }
+
+    @CartesianTest(name = "{displayName} flavour={0}, gradleVersion={1}")
+    @MethodFactory("flavoursAndVersions")
+    void shouldRecreateArchiveIfJvmArgsChange(final String flavour, final String gradleVersion) {
+        // Given:
+        givenProject(flavour + "/cds");
+        executeTask(PASS, gradleVersion);
+
+        // When:
+        final BuildResult result =
+                executeTask(PASS, gradleVersion, "--executor-jvm-arg=-Xmx123m", "--info");
+
+        // Then:
+        assertThat(result.task(TASK_NAME).getOutcome(), is(SUCCESS));
+        assertThat(archiveCount(), is(1L));
+        assertThat(result.getOutput(), containsString("-XX:SharedArchiveFile="));
+    }
+
+    private BuildResult executeTask(
+            final ExpectedOutcome expectedOutcome,
+            final String gradleVersion,
+            final String... additionalArgs) {
+        return executeTask(SYSTEM_TEST_TASK_NAME, expectedOutcome, gradleVersion, additionalArgs);
+    }
+
+    private long archiveCount() {
+        try (Stream<?> archives = Files.list(projectPath("build/creek/executor-cds"))) {
+            return archives.count();
+        } catch (final Exception e) {
+            throw new AssertionError(e);
+        }
+    }
+}
@@ -17,8 +17,10 @@
 package org.creekservice.api.system.test.gradle.plugin.coverage;
 
 import static org.creekservice.api.system.test.gradle.plugin.TaskTestBase.ExpectedOutcome.PASS;
+import static org.gradle.testkit.runner.TaskOutcome.FROM_CACHE;
 import static org.gradle.testkit.runner.TaskOutcome.SKIPPED;
 import static org.gradle.testkit.runner.TaskOutcome.SUCCESS;
+import static org.gradle.testkit.runner.TaskOutcome.UP_TO_DATE;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.not;
@@ -91,6 +93,38 @@ class PrepareCoverageTest extends TaskTestBase {
                 is(not("existing".getBytes(StandardCharsets.UTF_8).length)));
     }
 
+    @CartesianTest(name = "{displayName} flavour={0}, gradleVersion={1}")
+    @MethodFactory("flavoursAndVersions")
+    void shouldBeUpToDateIfAgentUnchanged(final String flavour, final String gradleVersion) {
+        // Given:
+        givenProject(flavour + "/with_jacoco");
+        executeTask(PASS, gradleVersion);
+
+        // When:
+        final BuildResult result = executeTask(PASS, gradleVersion);
+
+        // Then:
+        assertThat(result.task(TASK_NAME).getOutcome(), is(UP_TO_DATE));
+    }
+
+    @CartesianTest(name = "{displayName} flavour={0}, gradleVersion={1}")
+    @MethodFactory("flavoursAndVersions")
+    void shouldBeRelocatable(final String flavour, final String gradleVersion) {
+        // Given:
+        givenProject(flavour + "/with_jacoco");
+        executeTask(PASS, gradleVersion, "--build-cache");
+        TestPaths.delete(projectPath("build"));
+
+        // When:
+        final BuildResult result = executeTask(PASS, gradleVersion, "--build-cache");
+
+        // Then:
+        assertThat(result.task(TASK_NAME).getOutcome(), is(FROM_CACHE));
+        assertThat(
+                "agent jar exists",
+                Files.isRegularFile(projectPath("build/creek/mounts/jacoco/jacocoagent.jar")));
+    }
+
     private BuildResult executeTask(
             final ExpectedOutcome expectedOutcome,
             final String gradleVersion,
@@ -0,0 +1,140 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.system.test.gradle.plugin.daemon;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.condition.OS.WINDOWS;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.List;
+import java.util.Properties;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledOnOs;
+import org.junit.jupiter.api.io.TempDir;
+
+class DaemonProtocolTest {
+
+    @TempDir private Path tempDir;
+
+    @Test
+    void shouldRoundTripRequest() throws Exception {
+        // Given:
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        final DaemonProtocol.Request request =
+                new DaemonProtocol.Request("token", DaemonProtocol.RUN, List.of("--a=1", "--b"));
+
+        // When:
+        DaemonProtocol.writeRequest(new DataOutputStream(bytes), request);
+        final DaemonProtocol.Request result =
+                DaemonProtocol.readRequest(
+                        new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+
+        // Then:
+        assertThat(result.token, is("token"));
+        assertThat(result.command, is(DaemonProtocol.RUN));
+        assertThat(result.args, is(List.of("--a=1", "--b")));
+    }
+
+    @Test
+    void shouldPumpOutputUntilExit() throws Exception {
+        // Given:
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        final DataOutputStream out = new DataOutputStream(bytes);
+        final OutputStream stdout = DaemonProtocol.stdout(out);
+        final OutputStream stderr = DaemonProtocol.stderr(out);
+        stdout.write("out 1 ".getBytes(UTF_8));
+        stderr.write("err".getBytes(UTF_8));
+        stdout.write("out 2".getBytes(UTF_8));
+        DaemonProtocol.writeExit(out, 3);
+
+        final ByteArrayOutputStream receivedOut = new ByteArrayOutputStream();
+        final ByteArrayOutputStream receivedErr = new ByteArrayOutputStream();
+
+        // When:
+        final int exitCode =
+                DaemonProtocol.pump(
+                        new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())),
+                        receivedOut,
+                        receivedErr);
+
+        // Then:
+        assertThat(exitCode, is(3));
+        assertThat(receivedOut.toString(UTF_8), is("out 1 out 2"));
+        assertThat(receivedErr.toString(UTF_8), is("err"));
+    }
+
+    @Test
+    void shouldThrowIfDaemonDisconnectsBeforeExit() throws Exception {
+        // Given:
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DaemonProtocol.stdout(new DataOutputStream(bytes)).write("partial".getBytes(UTF_8));
+
+        // When:
+        final Exception e =
+                assertThrows(
+                        IOException.class,
+                        () ->
+                                DaemonProtocol.pump(
+                                        new DataInputStream(
+                                                new ByteArrayInputStream(bytes.toByteArray())),
+                                        new ByteArrayOutputStream(),
+                                        new ByteArrayOutputStream()));
+
+        // Then:
+        assertThat(e.getMessage(), is("Executor daemon disconnected unexpectedly"));
+    }
+
+    @Test
+    void shouldRoundTripPortFile() throws Exception {
+        // Given:
+        final Path file = tempDir.resolve("daemon.port");
+
+        // When:
+        DaemonProtocol.writePortFile(file, 1234, "secret");
+        final Properties props = DaemonProtocol.readPortFile(file);
+
+        // Then:
+        assertThat(props.getProperty("port"), is("1234"));
+        assertThat(props.getProperty("token"), is("secret"));
+    }
+
+    @Test
+    @DisabledOnOs(value = WINDOWS, disabledReason = "Uses POSIX file permissions")
+    void shouldOnlyLetOwnerAccessPortFile() throws Exception {
+        // Given:
+        final Path file = tempDir.resolve("daemon.port");
+
+        // When:
+        DaemonProtocol.writePortFile(file, 1234, "secret");
+
+        // Then:
+        assertThat(
+                Files.getPosixFilePermissions(file),
+                is(PosixFilePermissions.fromString("rw-------")));
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.creekservice.api.system.test.gradle.plugin.daemon;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class DaemonSpecTest {
+
+    @TempDir private Path projectDir;
+
+    @Test
+    void shouldHaveSameKeyForSameEnvironment() {
+        assertThat(
+                spec(Map.of("DOCKER_HOST", "a", "OTHER", "b")).key(),
+                is(spec(Map.of("OTHER", "b", "DOCKER_HOST", "a")).key()));
+    }
+
+    @Test
+    void shouldChangeKeyIfEnvironmentChanges() {
+        assertThat(
+                spec(Map.of("DOCKER_HOST", "a")).key(),
+                is(not(spec(Map.of("DOCKER_HOST", "b")).key())));
+        assertThat(
+                spec(Map.of("DOCKER_HOST", "a")).key(),
+                is(not(spec(Map.of("DOCKER_HOST", "a", "OTHER", "b")).key())));
+    }
+
+    @Test
+    void shouldNotChangeOwnerKeyIfEnvironmentChanges() {
+        assertThat(
+                spec(Map.of("DOCKER_HOST", "a")).ownerKey(),
+                is(spec(Map.of("DOCKER_HOST", "b")).ownerKey()));
+    }
+
+    @Test
+    void shouldHaveDifferentOwnerKeyPerTask() {
+        assertThat(
+                spec(":systemTest", Map.of()).ownerKey(),
+                is(not(spec(":otherSystemTest", Map.of()).ownerKey())));
+    }
+
+    @Test
+    void shouldSelectEnvironment() {
+        // Given:
+        final Map<String, String> env =
+                Map.of(
+                        "PATH", "/bin",
+                        "DOCKER_HOST", "tcp://a",
+                        "docker_config", "b",
+                        "BUILD_ID", "1234",
+                        "PATHEXT", ".exe");
+
+        // When:
+        final Map<String, String> selected =
+                DaemonSpec.environment(env, List.of("PATH", "DOCKER_*"));
+
+        // Then:
+        assertThat(
+                selected,
+                is(Map.of("PATH", "/bin", "DOCKER_HOST", "tcp://a", "docker_config", "b")));
+    }
+
+    private DaemonSpec spec(final Map<String, String> environment) {
+        return spec(":systemTest", environment);
+    }
+
+    private DaemonSpec spec(final String owner, final Map<String, String> environment) {
+        return new DaemonSpec(
+                "a.Main",
+                Set.of(),
+                List.of("-Xmx1g"),
+                projectDir,
+                owner,
+                environment,
+                Duration.ZERO);
+    }
+}
@@ -20,6 +20,7 @@ import static org.creekservice.api.system.test.gradle.plugin.TaskTestBase.Expect
 import static org.creekservice.api.test.util.TestPaths.delete;
 import static org.gradle.testkit.runner.TaskOutcome.SKIPPED;
 import static org.gradle.testkit.runner.TaskOutcome.SUCCESS;
+import static org.gradle.testkit.runner.TaskOutcome.UP_TO_DATE;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.not;
@@ -113,6 +114,58 @@ class PrepareDebugTest extends TaskTestBase {
         assertThat(TestPaths.readString(agentJar), is(not("existing")));
     }
 
+    @CartesianTest(name = "{displayName} flavour={0}, gradleVersion={1}")
+    @MethodFactory("flavoursAndVersions")
+    void shouldSkipPrepareDebugIfNotDebugging(final String flavour, final String gradleVersion) {
+        // Given:
+        givenProject(flavour + "/debug_options");
+
+        // When:
+        final BuildResult result = executeTask(PASS, gradleVersion);
+
+        // Then:
+        assertThat(result.task(TASK_NAME).getOutcome(), is(SKIPPED));
+        assertThat(
+                "mount dir should not exist",
+                !Files.exists(projectPath("build/creek/mounts/debug")));
+    }
+
+    @CartesianTest(name = "{displayName} flavour={0}, gradleVersion={1}")
+    @MethodFactory("flavoursAndVersions")
+    void shouldBeUpToDateIfAgentUnchanged(final String flavour, final String gradleVersion) {
+        // Given:
+        givenProject(flavour + "/debug");
+        executeTask(PASS, gradleVersion);
+
+        // When:
+        final BuildResult result = executeTask(PASS, gradleVersion);
+
+        // Then:
+        assertThat(result.task(TASK_NAME).getOutcome(), is(UP_TO_DATE));
+    }
+
+    @CartesianTest(name = "{displayName} flavour={0}, gradleVersion={1}")
+    @MethodFactory("flavoursAndVersions")
+    void shouldReplaceAgentWithNewerVersion(final String flavour, final String gradleVersion) {
+        // Given:
+        givenProject(flavour + "/debug");
+        executeTask(PASS, gradleVersion);
+        TestPaths.write(projectPath("attachMe/attachme-agent-1.2.4.jar"), "newer");
+
+        // When:
+        final BuildResult result = executeTask(PASS, gradleVersion);
+
+        // Then:
+        assertThat(result.task(TASK_NAME).getOutcome(), is(SUCCESS));
+        assertThat(
+                "old agent jar removed",
+                !Files.exists(projectPath("build/creek/mounts/debug/attachme-agent-1.2.3.jar")));
+        assertThat(
+                TestPaths.readString(
+                        projectPath("build/creek/mounts/debug/attachme-agent-1.2.4.jar")),
+                is("newer"));
+    }
+
     @SuppressWarnings("SameParameterValue")
     private BuildResult executeTask(
             final ExpectedOutcome expectedOutcome,
@@ -0,0 +1,111 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.creekservice.api.system.test.gradle.plugin.launcher;
+
+import static org.creekservice.api.system.test.gradle.plugin.TaskTestBase.ExpectedOutcome.PASS;
+import static org.gradle.testkit.runner.TaskOutcome.SKIPPED;
+import static org.gradle.testkit.runner.TaskOutcome.SUCCESS;
+import static org.gradle.testkit.runner.TaskOutcome.UP_TO_DATE;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.is;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.jar.Attributes;
+import java.util.jar.JarFile;
+import org.creekservice.api.system.test.gradle.plugin.TaskTestBase;
+import org.gradle.testkit.runner.BuildResult;
+import org.junitpioneer.jupiter.cartesian.CartesianTest;
+import org.junitpioneer.jupiter.cartesian.CartesianTest.MethodFactory;
+
+@SuppressWarnings("ConstantConditions")
+class LauncherJarTest extends TaskTestBase {
+
+    // Change this to true locally to debug using attach-me plugin:
+    private static final boolean DEBUG = false;
+
+    private static final String TASK_NAME = ":systemTestLauncherJar";
+    private static final String SYSTEM_TEST_TASK_NAME = ":systemTest";
+
+    LauncherJarTest() {
+        super(DEBUG);
+    }
+
+    @CartesianTest(name = "{displayName} flavour={0}, gradleVersion={1}")
+    @MethodFactory("flavoursAndVersions")
+    void shouldSkipIfPathingJarNotEnabled(final String flavour, final String gradleVersion) {
+        // Given:
+        givenProject(flavour + "/default");
+
+        // When:
+        final BuildResult result = executeTask(PASS, gradleVersion);
+
+        // Then:
+        assertThat(result.task(TASK_NAME).getOutcome(), is(SKIPPED));
+    }
+
+    @CartesianTest(name = "{displayName} flavour={0}, gradleVersion={1}")
+    @MethodFactory("flavoursAndVersions")
+    void shouldLaunchExecutorFromPathingJar(final String flavour, final String gradleVersion) {
+        // Given:
+        givenProject(flavour + "/pathing_jar");
+        final Path launcherJar = projectPath("build/creek/launcher/executor-launcher.jar");
+
+        // When:
+        final BuildResult result = executeTask(PASS, gradleVersion, "--info");
+
+        // Then:
+        assertThat(result.task(TASK_NAME).getOutcome(), is(SUCCESS));
+        assertThat(result.task(SYSTEM_TEST_TASK_NAME).getOutcome(), is(SUCCESS));
+        assertThat(classPathAttribute(launcherJar), containsString("creek-system-test-executor"));
+        assertThat(
+                result.getOutput(),
+                containsString("Launching the executor from pathing jar: [" + launcherJar + "]"));
+        assertThat(
+                result.getOutput(),
+                containsString("--test-directory=" + projectPath("src/system-test")));
+    }
+
+    @CartesianTest(name = "{displayName} flavour={0}, gradleVersion={1}")
+    @MethodFactory("flavoursAndVersions")
+    void shouldBeUpToDateIfClassPathUnchanged(final String flavour, final String gradleVersion) {
+        // Given:
+        givenProject(flavour + "/pathing_jar");
+        executeTask(PASS, gradleVersion);
+
+        // When:
+        final BuildResult result = executeTask(PASS, gradleVersion);
+
+        // Then:
+        assertThat(result.task(TASK_NAME).getOutcome(), is(UP_TO_DATE));
+    }
+
+    private BuildResult executeTask(
+            final ExpectedOutcome expectedOutcome,
+            final String gradleVersion,
+            final String... additionalArgs) {
+        return executeTask(SYSTEM_TEST_TASK_NAME, expectedOutcome, gradleVersion, additionalArgs);
+    }
+
+    private static String classPathAttribute(final Path jar) {
+        try (JarFile jarFile = new JarFile(jar.toFile())) {
+            return jarFile.getManifest().getMainAttributes().getValue(Attributes.Name.CLASS_PATH);
+        } catch (final IOException e) {
+            throw new AssertionError(e);
+        }
+    }
+}
@@ -0,0 +1,216 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.system.test.gradle.plugin.test;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.endsWith;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.Matchers.not;
+import static org.junit.jupiter.api.condition.OS.WINDOWS;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Set;
+import org.gradle.api.logging.Logging;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledOnOs;
+import org.junit.jupiter.api.io.TempDir;
+
+@DisabledOnOs(value = WINDOWS, disabledReason = "Uses sh to simulate executors")
+class FailFastRunnerTest {
+
+    private static final String FAILED_SUITE =
+            "<testsuite name=\"bad\" tests=\"1\" failures=\"1\" time=\"1\"/>";
+    private static final String PASSED_SUITE =
+            "<testsuite name=\"good\" tests=\"1\" failures=\"0\" time=\"1\"/>";
+
+    @TempDir private Path tempDir;
+    private Path shard1;
+    private Path shard2;
+    private Instant start;
+    private FailFastRunner runner;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        shard1 = Files.createDirectories(tempDir.resolve("shard-1"));
+        shard2 = Files.createDirectories(tempDir.resolve("shard-2"));
+        start = Instant.now().truncatedTo(ChronoUnit.SECONDS);
+        runner = new FailFastRunner(Logging.getLogger(FailFastRunnerTest.class), tempDir);
+    }
+
+    @Test
+    void shouldReturnExitCodesIfNoSuiteFails() {
+        // When:
+        final List<Integer> exitCodes =
+                runner.run(
+                        List.of(
+                                sh("echo '" + PASSED_SUITE + "' > " + shard1.resolve("a.xml")),
+                                sh("exit 3")),
+                        List.of(shard1, shard2),
+                        start);
+
+        // Then:
+        assertThat(exitCodes, contains(0, 3));
+    }
+
+    @Test
+    void shouldStopAllProcessesOnFirstFailure() {
+        // Given:
+        final Instant before = Instant.now();
+
+        // When:
+        final List<Integer> exitCodes =
+                runner.run(
+                        List.of(
+                                sh(
+                                        "echo '"
+                                                + FAILED_SUITE
+                                                + "' > "
+                                                + shard1.resolve("a.xml")
+                                                + "; sleep 60"),
+                                sh("sleep 60")),
+                        List.of(shard1, shard2),
+                        start);
+
+        // Then:
+        assertThat(Duration.between(before, Instant.now()), is(lessThan(Duration.ofSeconds(30))));
+        assertThat(exitCodes.get(0), is(not(0)));
+        assertThat(exitCodes.get(1), is(not(0)));
+        assertThat(Files.exists(shard1.resolve("a.xml")), is(true));
+    }
+
+    @Test
+    void shouldRemoveIncompleteResultsOnFailure() {
+        // When:
+        runner.run(
+                List.of(
+                        sh("echo '" + FAILED_SUITE + "' > " + shard1.resolve("a.xml")),
+                        sh(
+                                "echo '<testsuite name=\"partial\">' > "
+                                        + shard2.resolve("b.xml")
+                                        + "; sleep 60")),
+                List.of(shard1, shard2),
+                start);
+
+        // Then:
+        assertThat(Files.exists(shard1.resolve("a.xml")), is(true));
+        assertThat(Files.exists(shard2.resolve("b.xml")), is(false));
+    }
+
+    @Test
+    void shouldIgnoreFailuresFromEarlierRuns() throws Exception {
+        // Given:
+        final Path old = shard1.resolve("old.xml");
+        Files.writeString(old, FAILED_SUITE);
+        Files.setLastModifiedTime(old, FileTime.from(start.minus(Duration.ofMinutes(1))));
+
+        // When:
+        final List<Integer> exitCodes = runner.run(List.of(sh("sleep 1")), List.of(shard1), start);
+
+        // Then:
+        assertThat(exitCodes, contains(0));
+    }
+
+    @Test
+    void shouldDetectFailureWrittenOverEarlierResult() {
+        // Given:
+        final Instant before = Instant.now();
+        final Path result = shard1.resolve("a.xml");
+
+        // When:
+        final List<Integer> exitCodes =
+                runner.run(
+                        List.of(
+                                sh(
+                                        "echo '"
+                                                + PASSED_SUITE
+                                                + "' > "
+                                                + result
+                                                + "; sleep 2; echo '"
+                                                + FAILED_SUITE
+                                                + "' > "
+                                                + result
+                                                + "; sleep 60")),
+                        List.of(shard1),
+                        start);
+
+        // Then:
+        assertThat(Duration.between(before, Instant.now()), is(lessThan(Duration.ofSeconds(30))));
+        assertThat(exitCodes.get(0), is(not(0)));
+    }
+
+    @Test
+    void shouldForwardAllOutputBeforeReturning() {
+        // Given:
+        final PrintStream original = System.out;
+        final ByteArrayOutputStream captured = new ByteArrayOutputStream();
+        System.setOut(new PrintStream(captured, true, UTF_8));
+
+        // When:
+        try {
+            runner.run(
+                    List.of(sh("for i in $(seq 1 5000); do echo line $i; done; echo last")),
+                    List.of(shard1),
+                    start);
+        } finally {
+            System.setOut(original);
+        }
+
+        // Then:
+        assertThat(captured.toString(UTF_8), endsWith("line 5000\nlast\n"));
+    }
+
+    @Test
+    void shouldBuildJavaCommand() {
+        // When:
+        final List<String> command =
+                FailFastRunner.javaCommand(
+                        "a.Main",
+                        Set.of(new File("/lib/a.jar")),
+                        List.of("-Xmx1g"),
+                        List.of("--arg"));
+
+        // Then:
+        assertThat(
+                command.get(0),
+                is(Path.of(System.getProperty("java.home"), "bin", "java").toString()));
+        assertThat(
+                command.subList(1, command.size()),
+                contains(
+                        "-Xmx1g",
+                        "-cp",
+                        new File("/lib/a.jar").getAbsolutePath(),
+                        "a.Main",
+                        "--arg"));
+    }
+
+    private static List<String> sh(final String script) {
+        return List.of("sh", "-c", script);
+    }
+}
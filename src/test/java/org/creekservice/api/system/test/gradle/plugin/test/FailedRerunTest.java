@@ -0,0 +1,199 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.system.test.gradle.plugin.test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class FailedRerunTest {
+
+    private static final List<String> SUITES =
+            List.of("a/suite.yml", "b/suite.yml", "c/suite.yml");
+
+    @TempDir private Path root;
+    private Path testDir;
+    private Path resultDir;
+    private Path stagingDir;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        testDir = root.resolve("tests");
+        resultDir = root.resolve("results");
+        stagingDir = root.resolve("staging");
+
+        write(testDir.resolve("a/suite.yml"), "name: suite a");
+        write(testDir.resolve("b/suite.yml"), "name: suite b");
+        write(testDir.resolve("c/suite.yml"), "name: suite c");
+    }
+
+    @Test
+    void shouldRunNothingIfNoPreviousResults() {
+        // When:
+        final FailedRerun run = start();
+
+        // Then:
+        assertThat(run.suitesToRun(), is(List.of()));
+        assertThat(run.failedNames(), is(Set.of()));
+    }
+
+    @Test
+    void shouldRunOnlyFailedAndErroredSuites() throws Exception {
+        // Given:
+        writeResult(resultDir, "suite a", 0, 0);
+        writeResult(resultDir, "suite b", 1, 0);
+        writeResult(resultDir, "suite c", 0, 1);
+
+        // When:
+        final FailedRerun run = start();
+
+        // Then:
+        assertThat(run.suitesToRun(), is(List.of("b/suite.yml", "c/suite.yml")));
+        assertThat(run.unmatchedNames(), is(Set.of()));
+    }
+
+    @Test
+    void shouldRunAllSuitesIfFailedSuiteCanNotBeMatched() throws Exception {
+        // Given:
+        write(testDir.resolve("c/suite.yml"), "name: suite b");
+        writeResult(resultDir, "suite b", 1, 0);
+
+        // When:
+        final FailedRerun run = start();
+
+        // Then:
+        assertThat(run.suitesToRun(), is(SUITES));
+        assertThat(run.unmatchedNames(), is(Set.of("suite b")));
+    }
+
+    @Test
+    void shouldOnlyRunSuitesThatFailedSinceSomePoint() throws Exception {
+        // Given:
+        writeResult(resultDir, "suite a", 1, 0);
+        writeResult(resultDir, "suite b", 1, 0);
+        Files.setLastModifiedTime(
+                resultDir.resolve("TEST-suite-a.xml"), FileTime.from(Instant.EPOCH));
+
+        // When:
+        final FailedRerun run =
+                FailedRerun.start(
+                        testDir, resultDir, stagingDir, SUITES, Instant.ofEpochSecond(10));
+
+        // Then:
+        assertThat(run.suitesToRun(), is(List.of("b/suite.yml")));
+    }
+
+    @Test
+    void shouldMergeNewResultsIntoOldResults() throws Exception {
+        // Given:
+        writeResult(resultDir, "suite a", 0, 0);
+        writeResult(resultDir, "suite b", 1, 0);
+        final FailedRerun run = start();
+        writeResult(stagingDir, "suite b", 0, 0);
+
+        // When:
+        run.complete();
+
+        // Then:
+        assertThat(failed("TEST-suite-a.xml"), is(false));
+        assertThat(failed("TEST-suite-b.xml"), is(false));
+        assertThat(JUnitResultReader.readSuites(resultDir).size(), is(2));
+        assertThat(Files.exists(stagingDir), is(false));
+    }
+
+    @Test
+    void shouldReplaceResultsOfFailedSuitesEvenIfFileNamesDiffer() throws Exception {
+        // Given:
+        write(
+                resultDir.resolve("old-b.xml"),
+                "<testsuite name=\"suite b\" tests=\"1\" failures=\"1\" time=\"1\"/>");
+        final FailedRerun run = start();
+        writeResult(stagingDir, "suite b", 0, 0);
+
+        // When:
+        run.complete();
+
+        // Then:
+        assertThat(Files.exists(resultDir.resolve("old-b.xml")), is(false));
+        assertThat(failed("TEST-suite-b.xml"), is(false));
+    }
+
+    @Test
+    void shouldKeepOldResultsOfFailedSuitesWithoutNewResults() throws Exception {
+        // Given:
+        writeResult(resultDir, "suite b", 1, 0);
+        writeResult(resultDir, "suite c", 1, 0);
+        final FailedRerun run = start();
+        writeResult(stagingDir, "suite b", 0, 0);
+
+        // When:
+        run.complete();
+
+        // Then:
+        assertThat(failed("TEST-suite-b.xml"), is(false));
+        assertThat(failed("TEST-suite-c.xml"), is(true));
+    }
+
+    @Test
+    void shouldKeepOldResultsIfNothingWasRun() throws Exception {
+        // Given:
+        writeResult(resultDir, "suite b", 1, 0);
+        final FailedRerun run = start();
+
+        // When:
+        run.complete();
+
+        // Then:
+        assertThat(failed("TEST-suite-b.xml"), is(true));
+    }
+
+    private FailedRerun start() {
+        return FailedRerun.start(testDir, resultDir, stagingDir, SUITES);
+    }
+
+    private boolean failed(final String fileName) {
+        return JUnitResultReader.readSuiteFile(resultDir.resolve(fileName)).get(0).failed();
+    }
+
+    private static void writeResult(
+            final Path dir, final String name, final int failures, final int errors)
+            throws Exception {
+        write(
+                dir.resolve("TEST-" + name.replace(' ', '-') + ".xml"),
+                "<testsuite name=\""
+                        + name
+                        + "\" tests=\"1\" failures=\""
+                        + failures
+                        + "\" errors=\""
+                        + errors
+                        + "\" skipped=\"0\" time=\"1\"/>");
+    }
+
+    private static void write(final Path file, final String content) throws Exception {
+        Files.createDirectories(file.getParent());
+        Files.writeString(file, content);
+    }
+}
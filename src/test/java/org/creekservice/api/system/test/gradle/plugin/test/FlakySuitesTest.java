@@ -0,0 +1,67 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.system.test.gradle.plugin.test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class FlakySuitesTest {
+
+    @TempDir private Path dir;
+
+    @Test
+    void shouldWriteReport() throws Exception {
+        // Given:
+        final FlakySuites flaky = new FlakySuites();
+        flaky.passed(Set.of("suite b"), 2);
+        flaky.passed(Set.of("suite a", "suite b"), 3);
+        final Path report = dir.resolve("reports/flaky-suites.txt");
+
+        // When:
+        flaky.write(report);
+
+        // Then:
+        assertThat(flaky.names(), is(Set.of("suite a", "suite b")));
+        assertThat(
+                Files.readAllLines(report),
+                is(
+                        List.of(
+                                "# Suites that failed, but passed when retried",
+                                "suite a: passed on attempt 3",
+                                "suite b: passed on attempt 2")));
+    }
+
+    @Test
+    void shouldDeleteStaleReportIfNoFlakySuites() throws Exception {
+        // Given:
+        final Path report = dir.resolve("flaky-suites.txt");
+        Files.writeString(report, "old");
+
+        // When:
+        new FlakySuites().write(report);
+
+        // Then:
+        assertThat(Files.exists(report), is(false));
+    }
+}
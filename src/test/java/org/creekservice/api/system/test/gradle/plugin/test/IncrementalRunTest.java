@@ -0,0 +1,163 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.system.test.gradle.plugin.test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class IncrementalRunTest {
+
+    private static final List<String> SUITES = List.of("a/suite.yml", "b/suite.yml");
+
+    @TempDir private Path root;
+    private Path testDir;
+    private Path resultDir;
+    private Path stagingDir;
+    private Path fingerprintFile;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        testDir = root.resolve("tests");
+        resultDir = root.resolve("results");
+        stagingDir = root.resolve("staging");
+        fingerprintFile = root.resolve("state/fingerprints.properties");
+
+        write(testDir.resolve("a/suite.yml"), "name: suite a");
+        write(testDir.resolve("b/suite.yml"), "name: suite b");
+    }
+
+    @Test
+    void shouldRunAllSuitesFirstTime() {
+        // When:
+        final IncrementalRun run = start();
+
+        // Then:
+        assertThat(run.suitesToRun(), is(SUITES));
+        assertThat(run.unchangedCount(), is(0));
+    }
+
+    @Test
+    void shouldSkipUnchangedSuitesThatPassed() throws Exception {
+        // Given:
+        givenCompletedRun(0, 0);
+
+        // When:
+        final IncrementalRun run = start();
+
+        // Then:
+        assertThat(run.suitesToRun(), is(List.of()));
+        assertThat(run.unchangedCount(), is(2));
+    }
+
+    @Test
+    void shouldRunChangedSuites() throws Exception {
+        // Given:
+        givenCompletedRun(0, 0);
+        write(testDir.resolve("b/inputs/input.yml"), "new");
+
+        // When:
+        final IncrementalRun run = start();
+
+        // Then:
+        assertThat(run.suitesToRun(), is(List.of("b/suite.yml")));
+    }
+
+    @Test
+    void shouldAlwaysRunFailedSuites() throws Exception {
+        // Given:
+        givenCompletedRun(0, 1);
+
+        // When:
+        final IncrementalRun run = start();
+
+        // Then:
+        assertThat(run.suitesToRun(), is(List.of("b/suite.yml")));
+    }
+
+    @Test
+    void shouldRunSuitesWhoseResultsAreMissing() throws Exception {
+        // Given:
+        givenCompletedRun(0, 0);
+        Files.delete(resultDir.resolve("TEST-suite-a.xml"));
+
+        // When:
+        final IncrementalRun run = start();
+
+        // Then:
+        assertThat(run.suitesToRun(), is(List.of("a/suite.yml")));
+    }
+
+    @Test
+    void shouldKeepResultsOfUnchangedSuites() throws Exception {
+        // Given:
+        givenCompletedRun(0, 0);
+        write(testDir.resolve("b/inputs/input.yml"), "new");
+        final IncrementalRun run = start();
+        writeResult(stagingDir, "suite b", 1);
+
+        // When:
+        run.complete();
+
+        // Then:
+        assertThat(
+                JUnitResultReader.readSuiteFile(resultDir.resolve("TEST-suite-a.xml"))
+                        .get(0)
+                        .failed(),
+                is(false));
+        assertThat(
+                JUnitResultReader.readSuiteFile(resultDir.resolve("TEST-suite-b.xml"))
+                        .get(0)
+                        .failed(),
+                is(true));
+        assertThat(Files.exists(stagingDir), is(false));
+    }
+
+    private IncrementalRun start() {
+        return IncrementalRun.start(
+                testDir, resultDir, stagingDir, fingerprintFile, SUITES, "env");
+    }
+
+    private void givenCompletedRun(final int failuresA, final int failuresB) throws Exception {
+        final IncrementalRun run = start();
+        writeResult(stagingDir, "suite a", failuresA);
+        writeResult(stagingDir, "suite b", failuresB);
+        run.complete();
+    }
+
+    private static void writeResult(final Path dir, final String name, final int failures)
+            throws Exception {
+        write(
+                dir.resolve("TEST-" + name.replace(' ', '-') + ".xml"),
+                "<testsuite name=\""
+                        + name
+                        + "\" tests=\"1\" failures=\""
+                        + failures
+                        + "\" errors=\"0\" skipped=\"0\" time=\"1\"/>");
+    }
+
+    private static void write(final Path file, final String content) throws Exception {
+        Files.createDirectories(file.getParent());
+        Files.writeString(file, content);
+    }
+}
@@ -0,0 +1,177 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.system.test.gradle.plugin.test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class JUnitResultReaderTest {
+
+    @TempDir private Path resultDir;
+
+    @Test
+    void shouldReturnEmptyIfNoResultDir() {
+        assertThat(JUnitResultReader.readSuites(resultDir.resolve("missing")), is(List.of()));
+    }
+
+    @Test
+    void shouldReadSuiteSummaries() throws Exception {
+        // Given:
+        Files.writeString(
+                resultDir.resolve("TEST-a.xml"),
+                "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n"
+                        + "<testsuite name=\"suite a\" tests=\"3\" skipped=\"1\" failures=\"1\""
+                        + " errors=\"0\" time=\"12.5\">\n"
+                        + "  <testcase name=\"case 1\" time=\"1.0\"/>\n"
+                        + "</testsuite>\n");
+
+        // When:
+        final List<SuiteResult> results = JUnitResultReader.readSuites(resultDir);
+
+        // Then:
+        assertThat(results.size(), is(1));
+        assertThat(results.get(0).name(), is("suite a"));
+        assertThat(results.get(0).timeSeconds(), is(12.5));
+        assertThat(results.get(0).tests(), is(3));
+        assertThat(results.get(0).skipped(), is(1));
+        assertThat(results.get(0).failures(), is(1));
+        assertThat(results.get(0).errors(), is(0));
+        assertThat(results.get(0).failed(), is(true));
+    }
+
+    @Test
+    void shouldReadSuitesWrappedInTestSuitesElement() throws Exception {
+        // Given:
+        Files.writeString(
+                resultDir.resolve("results.xml"),
+                "<testsuites>"
+                        + "<testsuite name=\"a\" tests=\"1\" time=\"1\"/>"
+                        + "<testsuite name=\"b\" tests=\"1\" time=\"2\"/>"
+                        + "</testsuites>");
+
+        // When:
+        final List<SuiteResult> results = JUnitResultReader.readSuites(resultDir);
+
+        // Then:
+        assertThat(results.size(), is(2));
+        assertThat(results.get(1).name(), is("b"));
+        assertThat(results.get(1).failed(), is(false));
+    }
+
+    @Test
+    void shouldIgnoreInvalidFiles() throws Exception {
+        // Given:
+        Files.writeString(resultDir.resolve("bad.xml"), "not xml <");
+        Files.writeString(resultDir.resolve("other.txt"), "<testsuite name=\"a\"/>");
+
+        // Then:
+        assertThat(JUnitResultReader.readSuites(resultDir), is(List.of()));
+    }
+
+    @Test
+    void shouldDetectIncompleteFiles() throws Exception {
+        // Given:
+        final Path complete = resultDir.resolve("complete.xml");
+        final Path truncated = resultDir.resolve("truncated.xml");
+        Files.writeString(complete, "<testsuite name=\"a\"><testcase name=\"b\"/></testsuite>");
+        Files.writeString(truncated, "<testsuite name=\"a\"><testcase name=\"b\"/>");
+
+        // Then:
+        assertThat(JUnitResultReader.isReadable(complete), is(true));
+        assertThat(JUnitResultReader.isReadable(truncated), is(false));
+        assertThat(JUnitResultReader.isReadable(resultDir.resolve("missing.xml")), is(false));
+    }
+
+    @Test
+    void shouldReadTestCases() throws Exception {
+        // Given:
+        Files.writeString(
+                resultDir.resolve("TEST-a.xml"),
+                "<testsuite name=\"a\" tests=\"4\" failures=\"1\" errors=\"1\" skipped=\"1\">"
+                        + "<testcase name=\"passes\" time=\"1.5\"/>"
+                        + "<testcase name=\"fails\" time=\"2\">"
+                        + "<failure message=\"expected x\" type=\"Error\">details\n</failure>"
+                        + "</testcase>"
+                        + "<testcase name=\"errors\"><error>boom</error></testcase>"
+                        + "<testcase name=\"skips\"><skipped/></testcase>"
+                        + "</testsuite>");
+
+        // When:
+        final List<CaseResult> cases = JUnitResultReader.readSuites(resultDir).get(0).cases();
+
+        // Then:
+        assertThat(cases.size(), is(4));
+        assertThat(cases.get(0).name(), is("passes"));
+        assertThat(cases.get(0).timeSeconds(), is(1.5));
+        assertThat(cases.get(0).outcome(), is(CaseResult.Outcome.PASSED));
+        assertThat(cases.get(1).outcome(), is(CaseResult.Outcome.FAILED));
+        assertThat(cases.get(1).message(), is("expected x"));
+        assertThat(cases.get(1).details(), is("details"));
+        assertThat(cases.get(2).outcome(), is(CaseResult.Outcome.FAILED));
+        assertThat(cases.get(2).message(), is(""));
+        assertThat(cases.get(2).details(), is("boom"));
+        assertThat(cases.get(3).outcome(), is(CaseResult.Outcome.SKIPPED));
+    }
+
+    @Test
+    void shouldIgnoreStaleFailuresWhenDeterminingOutcome() throws Exception {
+        // Given:
+        final Instant runStart = Instant.ofEpochSecond(1_000_000);
+        final Path stale = resultDir.resolve("TEST-stale.xml");
+        Files.writeString(stale, "<testsuite name=\"stale\" tests=\"1\" failures=\"1\"/>");
+        Files.setLastModifiedTime(stale, FileTime.from(runStart.minusSeconds(60)));
+        final Path fresh = resultDir.resolve("TEST-fresh.xml");
+        Files.writeString(fresh, "<testsuite name=\"fresh\" tests=\"1\" failures=\"0\"/>");
+        Files.setLastModifiedTime(fresh, FileTime.from(runStart.plusSeconds(1)));
+
+        // Then:
+        assertThat(JUnitResultReader.anyFailed(resultDir, runStart), is(Optional.of(false)));
+    }
+
+    @Test
+    void shouldDetectFreshFailures() throws Exception {
+        // Given:
+        final Instant runStart = Instant.ofEpochSecond(1_000_000);
+        final Path fresh = resultDir.resolve("TEST-fresh.xml");
+        Files.writeString(fresh, "<testsuite name=\"fresh\" tests=\"1\" failures=\"1\"/>");
+        Files.setLastModifiedTime(fresh, FileTime.from(runStart));
+
+        // Then:
+        assertThat(JUnitResultReader.anyFailed(resultDir, runStart), is(Optional.of(true)));
+    }
+
+    @Test
+    void shouldNotUseStaleResultsIfRunWroteNone() throws Exception {
+        // Given:
+        final Instant runStart = Instant.ofEpochSecond(1_000_000);
+        final Path stale = resultDir.resolve("TEST-stale.xml");
+        Files.writeString(stale, "<testsuite name=\"stale\" tests=\"1\" failures=\"0\"/>");
+        Files.setLastModifiedTime(stale, FileTime.from(runStart.minusSeconds(60)));
+
+        // Then:
+        assertThat(JUnitResultReader.anyFailed(resultDir, runStart), is(Optional.empty()));
+    }
+}
@@ -0,0 +1,155 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.system.test.gradle.plugin.test;
+
+import static org.gradle.testkit.runner.TaskOutcome.SUCCESS;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.is;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.creekservice.api.system.test.gradle.plugin.TaskTestBase;
+import org.creekservice.api.test.util.TestPaths;
+import org.gradle.testkit.runner.BuildResult;
+import org.junitpioneer.jupiter.cartesian.CartesianTest;
+import org.junitpioneer.jupiter.cartesian.CartesianTest.MethodFactory;
+
+@SuppressWarnings("ConstantConditions")
+class MergeResultsTest extends TaskTestBase {
+
+    // Change this to true locally to debug using attach-me plugin:
+    private static final boolean DEBUG = false;
+
+    private static final String TASK_NAME = ":systemTestMergeResults";
+
+    private static final byte[] EXEC_A = {0x01, (byte) 0xC0, (byte) 0xC0, 0x10, 0x07, 'a'};
+    private static final byte[] EXEC_B = {0x01, (byte) 0xC0, (byte) 0xC0, 0x10, 0x07, 'b'};
+
+    MergeResultsTest() {
+        super(DEBUG);
+    }
+
+    @CartesianTest(name = "{displayName} flavour={0}, gradleVersion={1}")
+    @MethodFactory("flavoursAndVersions")
+    void shouldMergeShardResults(final String flavour, final String gradleVersion)
+            throws Exception {
+        // Given:
+        givenProject(flavour + "/default");
+        TestPaths.write(
+                projectPath("build/test-results/system-test/shard-1-of-2/TEST-a.xml"), "one");
+        TestPaths.write(
+                projectPath("build/test-results/system-test/shard-2-of-2/TEST-a.xml"), "two");
+        TestPaths.write(
+                projectPath("build/test-results/system-test/shard-2-of-2/TEST-b.xml"), "three");
+
+        // When:
+        final BuildResult result = executeTask(ExpectedOutcome.PASS, gradleVersion);
+
+        // Then:
+        assertThat(result.task(TASK_NAME).getOutcome(), is(SUCCESS));
+        assertThat(
+                fileNames(projectPath("build/test-results/system-test-merged")),
+                containsInAnyOrder("TEST-a.xml", "shard-2-of-2-TEST-a.xml", "TEST-b.xml"));
+    }
+
+    @CartesianTest(name = "{displayName} flavour={0}, gradleVersion={1}")
+    @MethodFactory("flavoursAndVersions")
+    void shouldMergeManyResultsWithTheSameName(final String flavour, final String gradleVersion)
+            throws Exception {
+        // Given:
+        givenProject(flavour + "/default");
+        TestPaths.write(
+                projectPath("build/test-results/system-test/node-1/system-test/TEST-a.xml"), "1");
+        TestPaths.write(
+                projectPath("build/test-results/system-test/node-2/system-test/TEST-a.xml"), "2");
+        TestPaths.write(
+                projectPath("build/test-results/system-test/node-3/system-test/TEST-a.xml"), "3");
+
+        // When:
+        final BuildResult result = executeTask(ExpectedOutcome.PASS, gradleVersion);
+
+        // Then:
+        assertThat(result.task(TASK_NAME).getOutcome(), is(SUCCESS));
+        assertThat(
+                fileNames(projectPath("build/test-results/system-test-merged")),
+                containsInAnyOrder(
+                        "TEST-a.xml", "system-test-TEST-a.xml", "system-test-2-TEST-a.xml"));
+    }
+
+    @CartesianTest(name = "{displayName} flavour={0}, gradleVersion={1}")
+    @MethodFactory("flavoursAndVersions")
+    void shouldMergeExecutionData(final String flavour, final String gradleVersion)
+            throws Exception {
+        // Given:
+        givenProject(flavour + "/default");
+        final Path coverageDir = givenDirectory("build/creek/mounts/coverage");
+        writeBytes(coverageDir.resolve("shard-1/service-a.exec"), EXEC_A);
+        writeBytes(coverageDir.resolve("shard-2/service-b.exec"), EXEC_B);
+        writeBytes(coverageDir.resolve("shard-2/service-c.exec"), new byte[0]);
+
+        // When:
+        final BuildResult result = executeTask(ExpectedOutcome.PASS, gradleVersion);
+
+        // Then:
+        assertThat(result.task(TASK_NAME).getOutcome(), is(SUCCESS));
+        final ByteArrayOutputStream expected = new ByteArrayOutputStream();
+        expected.writeBytes(EXEC_A);
+        expected.writeBytes(EXEC_B);
+        assertThat(
+                TestPaths.readBytes(projectPath("build/creek/coverage/systemTest.exec")),
+                is(expected.toByteArray()));
+    }
+
+    @CartesianTest(name = "{displayName} flavour={0}, gradleVersion={1}")
+    @MethodFactory("flavoursAndVersions")
+    void shouldFailOnInvalidExecutionData(final String flavour, final String gradleVersion) {
+        // Given:
+        givenProject(flavour + "/default");
+        final Path coverageDir = givenDirectory("build/creek/mounts/coverage");
+        TestPaths.write(coverageDir.resolve("service-a.exec"), "not exec data");
+
+        // When:
+        final BuildResult result = executeTask(ExpectedOutcome.FAIL, gradleVersion);
+
+        // Then:
+        assertThat(result.getOutput(), containsString("Not a JaCoCo execution data file: "));
+    }
+
+    private static List<String> fileNames(final Path dir) throws Exception {
+        try (Stream<Path> files = Files.list(dir)) {
+            return files.map(f -> f.getFileName().toString()).collect(Collectors.toList());
+        }
+    }
+
+    private static void writeBytes(final Path file, final byte[] content) throws Exception {
+        TestPaths.ensureDirectories(file.getParent());
+        Files.write(file, content);
+    }
+
+    private BuildResult executeTask(
+            final ExpectedOutcome expectedOutcome,
+            final String gradleVersion,
+            final String... additionalArgs) {
+        return executeTask(TASK_NAME, expectedOutcome, gradleVersion, additionalArgs);
+    }
+}
@@ -0,0 +1,154 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.system.test.gradle.plugin.test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import org.gradle.api.logging.Logging;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class ResultTailerTest {
+
+    @TempDir private Path dir;
+    private RecordingListener listener;
+    private Instant start;
+
+    @BeforeEach
+    void setUp() {
+        listener = new RecordingListener();
+        start = Instant.now().truncatedTo(ChronoUnit.SECONDS);
+    }
+
+    @Test
+    void shouldPassOnSuitesAsTheyComplete() throws Exception {
+        // Given:
+        final ResultTailer tailer = start();
+
+        // When:
+        writeResult(dir.resolve("shard-1/TEST-a.xml"), "a");
+        awaitSuites(1);
+        writeResult(dir.resolve("shard-2/TEST-b.xml"), "b");
+        awaitSuites(2);
+        tailer.stop();
+
+        // Then:
+        assertThat(listener.names(), contains("a", "b"));
+    }
+
+    @Test
+    void shouldPassOnRemainingSuitesWhenStopped() throws Exception {
+        // Given:
+        final ResultTailer tailer = start();
+        writeResult(dir.resolve("TEST-a.xml"), "a");
+
+        // When:
+        tailer.stop();
+
+        // Then:
+        assertThat(listener.names(), contains("a"));
+    }
+
+    @Test
+    void shouldNotPassOnMovedResultsTwice() throws Exception {
+        // Given:
+        final ResultTailer tailer = start();
+        final Path original = dir.resolve("shard-1/TEST-a.xml");
+        writeResult(original, "a");
+        awaitSuites(1);
+
+        // When:
+        Files.move(original, dir.resolve("TEST-a.xml"));
+        tailer.stop();
+
+        // Then:
+        assertThat(listener.names(), contains("a"));
+    }
+
+    @Test
+    void shouldIgnoreResultsFromEarlierRuns() throws Exception {
+        // Given:
+        final Path old = dir.resolve("TEST-old.xml");
+        writeResult(old, "old");
+        Files.setLastModifiedTime(old, FileTime.from(start.minus(1, ChronoUnit.HOURS)));
+        final ResultTailer tailer = start();
+
+        // When:
+        tailer.stop();
+
+        // Then:
+        assertThat(listener.names(), is(List.of()));
+    }
+
+    @Test
+    void shouldIgnoreIncompleteResults() throws Exception {
+        // Given:
+        final ResultTailer tailer = start();
+        Files.writeString(dir.resolve("TEST-a.xml"), "<testsuite name=\"a\">");
+
+        // When:
+        tailer.stop();
+
+        // Then:
+        assertThat(listener.names(), is(List.of()));
+    }
+
+    private ResultTailer start() {
+        return ResultTailer.start(
+                List.of(dir), start, listener, Logging.getLogger(ResultTailerTest.class));
+    }
+
+    private void awaitSuites(final int count) throws Exception {
+        final Instant deadline = Instant.now().plusSeconds(10);
+        while (listener.names().size() < count && Instant.now().isBefore(deadline)) {
+            Thread.sleep(50);
+        }
+        assertThat(listener.names().size(), is(count));
+    }
+
+    private static void writeResult(final Path file, final String name) throws Exception {
+        Files.createDirectories(file.getParent());
+        Files.writeString(file, "<testsuite name=\"" + name + "\" tests=\"1\" time=\"1\"/>");
+    }
+
+    private static final class RecordingListener implements SuiteResultListener {
+
+        private final List<String> names = new ArrayList<>();
+
+        @Override
+        public synchronized void suiteCompleted(final SuiteResult result, final Instant completed) {
+            names.add(result.name());
+        }
+
+        @Override
+        public void close(final boolean passed) {}
+
+        synchronized List<String> names() {
+            return List.copyOf(names);
+        }
+    }
+}
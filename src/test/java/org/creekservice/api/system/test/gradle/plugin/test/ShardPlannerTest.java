@@ -0,0 +1,74 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.system.test.gradle.plugin.test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class ShardPlannerTest {
+
+    @Test
+    void shouldDealSuitesAcrossShardsIfDurationsEqual() {
+        // When:
+        final List<List<String>> shards =
+                ShardPlanner.plan(List.of("a", "b", "c", "d", "e"), 2, suite -> 1);
+
+        // Then:
+        assertThat(shards, is(List.of(List.of("a", "c", "e"), List.of("b", "d"))));
+    }
+
+    @Test
+    void shouldBalanceShardsByDuration() {
+        // Given:
+        final Map<String, Double> durations =
+                Map.of("a", 10.0, "b", 8.0, "c", 6.0, "d", 5.0, "e", 4.0, "f", 3.0);
+
+        // When:
+        final List<List<String>> shards =
+                ShardPlanner.plan(List.of("a", "b", "c", "d", "e", "f"), 3, durations::get);
+
+        // Then:
+        assertThat(
+                shards, is(List.of(List.of("a", "f"), List.of("b", "e"), List.of("c", "d"))));
+    }
+
+    @Test
+    void shouldNotReturnEmptyShards() {
+        // When:
+        final List<List<String>> shards = ShardPlanner.plan(List.of("a", "b"), 4, suite -> 1);
+
+        // Then:
+        assertThat(shards, is(List.of(List.of("a"), List.of("b"))));
+    }
+
+    @Test
+    void shouldReturnNoShardsIfNoSuites() {
+        assertThat(ShardPlanner.plan(List.of(), 4, suite -> 1), is(List.of()));
+    }
+
+    @Test
+    void shouldThrowOnInvalidShardCount() {
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> ShardPlanner.plan(List.of("a"), 0, suite -> 1));
+    }
+}
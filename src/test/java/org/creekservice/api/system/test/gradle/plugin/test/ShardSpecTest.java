@@ -0,0 +1,87 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.system.test.gradle.plugin.test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+class ShardSpecTest {
+
+    private static final List<String> SUITES =
+            IntStream.range(0, 100)
+                    .mapToObj(i -> "package-" + i + "/suite.yml")
+                    .collect(Collectors.toList());
+
+    @Test
+    void shouldParse() {
+        assertThat(ShardSpec.parse("2/4").name(), is("shard-2-of-4"));
+        assertThat(ShardSpec.parse(" 1/1 ").name(), is("shard-1-of-1"));
+    }
+
+    @Test
+    void shouldThrowOnInvalidSpec() {
+        assertThrows(IllegalArgumentException.class, () -> ShardSpec.parse("0/4"));
+        assertThrows(IllegalArgumentException.class, () -> ShardSpec.parse("5/4"));
+        assertThrows(IllegalArgumentException.class, () -> ShardSpec.parse("1"));
+        assertThrows(IllegalArgumentException.class, () -> ShardSpec.parse("a/b"));
+    }
+
+    @Test
+    void shouldSelectEverySuiteExactlyOnce() {
+        // When:
+        final List<String> all = new ArrayList<>();
+        for (int i = 1; i <= 4; i++) {
+            all.addAll(ShardSpec.parse(i + "/4").select(SUITES));
+        }
+
+        // Then:
+        all.sort(String::compareTo);
+        final List<String> expected = new ArrayList<>(SUITES);
+        expected.sort(String::compareTo);
+        assertThat(all, is(expected));
+    }
+
+    @Test
+    void shouldNotMoveExistingSuitesWhenSuitesAdded() {
+        // Given:
+        final List<String> before = ShardSpec.parse("2/4").select(SUITES);
+
+        final List<String> more = new ArrayList<>(SUITES);
+        more.add("new-package/suite.yml");
+
+        // When:
+        final List<String> after = ShardSpec.parse("2/4").select(more);
+
+        // Then:
+        after.remove("new-package/suite.yml");
+        assertThat(after, is(before));
+    }
+
+    @Test
+    void shouldSelectTheSameSuitesRegardlessOfPathSeparator() {
+        assertThat(
+                ShardSpec.parse("3/4").select(List.of("a\\b.yml")).isEmpty(),
+                is(ShardSpec.parse("3/4").select(List.of("a/b.yml")).isEmpty()));
+    }
+}
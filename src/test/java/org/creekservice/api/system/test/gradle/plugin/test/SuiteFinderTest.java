@@ -0,0 +1,87 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.system.test.gradle.plugin.test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.regex.Pattern;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class SuiteFinderTest {
+
+    private static final Pattern ALL = Pattern.compile(".*");
+
+    @TempDir private Path testDir;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        givenFile("package-b/suite.yml");
+        givenFile("package-b/seed/seed.yml");
+        givenFile("package-b/inputs/input.yml");
+        givenFile("package-b/expectations/expectation.yml");
+        givenFile("package-a/nested/suite.yaml");
+        givenFile("package-a/README.md");
+    }
+
+    @Test
+    void shouldReturnEmptyIfNoTestDir() {
+        assertThat(SuiteFinder.findSuites(testDir.resolve("missing"), ALL), is(List.of()));
+    }
+
+    @Test
+    void shouldFindSuitesInSortedOrder() {
+        assertThat(
+                SuiteFinder.findSuites(testDir, ALL),
+                is(List.of(path("package-a/nested/suite.yaml"), path("package-b/suite.yml"))));
+    }
+
+    @Test
+    void shouldFilterSuitesByPattern() {
+        assertThat(
+                SuiteFinder.findSuites(testDir, Pattern.compile(".*nested.*")),
+                is(List.of(path("package-a/nested/suite.yaml"))));
+    }
+
+    @Test
+    void shouldBuildPatternMatchingOnlyTheSuppliedSuites() {
+        // When:
+        final Pattern pattern =
+                Pattern.compile(SuiteFinder.includePattern(List.of("a/b.yml", "c.d/e.yml")));
+
+        // Then:
+        assertThat(pattern.matcher("a/b.yml").matches(), is(true));
+        assertThat(pattern.matcher("c.d/e.yml").matches(), is(true));
+        assertThat(pattern.matcher("cxd/e.yml").matches(), is(false));
+        assertThat(pattern.matcher("a/b.yml.bak").matches(), is(false));
+    }
+
+    private void givenFile(final String relativePath) throws Exception {
+        final Path path = testDir.resolve(relativePath);
+        Files.createDirectories(path.getParent());
+        Files.createFile(path);
+    }
+
+    private static String path(final String relativePath) {
+        return Path.of(relativePath).toString();
+    }
+}
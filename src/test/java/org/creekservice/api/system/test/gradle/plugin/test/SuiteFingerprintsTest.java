@@ -0,0 +1,121 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.system.test.gradle.plugin.test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class SuiteFingerprintsTest {
+
+    @TempDir private Path testDir;
+
+    private static final List<String> SUITES =
+            List.of("a/suite-1.yml", "a/suite-2.yml", "a/b/suite.yml");
+
+    @BeforeEach
+    void setUp() throws Exception {
+        write("a/suite-1.yml", "name: one");
+        write("a/suite-2.yml", "name: two");
+        write("a/inputs/input.yml", "input");
+        write("a/b/suite.yml", "name: three");
+    }
+
+    @Test
+    void shouldGiveSuitesInSamePackageSameFingerprint() {
+        // When:
+        final Map<String, String> result = SuiteFingerprints.compute(testDir, SUITES, "env");
+
+        // Then:
+        assertThat(result.get("a/suite-1.yml"), is(result.get("a/suite-2.yml")));
+        assertThat(result.get("a/suite-1.yml"), is(not(result.get("a/b/suite.yml"))));
+    }
+
+    @Test
+    void shouldChangeFingerprintOfPackageWithChangedInput() throws Exception {
+        // Given:
+        final Map<String, String> before = SuiteFingerprints.compute(testDir, SUITES, "env");
+
+        // When:
+        write("a/inputs/input.yml", "changed");
+
+        // Then:
+        final Map<String, String> after = SuiteFingerprints.compute(testDir, SUITES, "env");
+        assertThat(after.get("a/suite-1.yml"), is(not(before.get("a/suite-1.yml"))));
+        assertThat(after.get("a/b/suite.yml"), is(before.get("a/b/suite.yml")));
+    }
+
+    @Test
+    void shouldChangeAllFingerprintsIfEnvironmentChanged() {
+        // When:
+        final Map<String, String> one = SuiteFingerprints.compute(testDir, SUITES, "env-1");
+        final Map<String, String> two = SuiteFingerprints.compute(testDir, SUITES, "env-2");
+
+        // Then:
+        SUITES.forEach(suite -> assertThat(one.get(suite), is(not(two.get(suite)))));
+    }
+
+    @Test
+    void shouldChangeEnvironmentIfClassPathContentChanged() throws Exception {
+        // Given:
+        final File jar = write("lib/component.jar", "v1").toFile();
+        final String before = SuiteFingerprints.environment(List.of(jar), List.of("60"));
+
+        // When:
+        write("lib/component.jar", "v2");
+
+        // Then:
+        assertThat(SuiteFingerprints.environment(List.of(jar), List.of("60")), is(not(before)));
+        assertThat(
+                SuiteFingerprints.environment(List.of(jar), List.of("60")),
+                is(SuiteFingerprints.environment(List.of(jar), List.of("60"))));
+    }
+
+    @Test
+    void shouldRoundTrip() {
+        // Given:
+        final Path file = testDir.resolve("state/fingerprints.properties");
+        final SuiteFingerprints fingerprints = SuiteFingerprints.load(file);
+        fingerprints.record("a/suite-1.yml", "abc");
+        fingerprints.record("a/suite-2.yml", "def");
+        fingerprints.remove("a/suite-2.yml");
+
+        // When:
+        fingerprints.save(file);
+        final SuiteFingerprints loaded = SuiteFingerprints.load(file);
+
+        // Then:
+        assertThat(loaded.matches("a/suite-1.yml", "abc"), is(true));
+        assertThat(loaded.matches("a/suite-1.yml", "def"), is(false));
+        assertThat(loaded.matches("a/suite-2.yml", "def"), is(false));
+    }
+
+    private Path write(final String relative, final String content) throws Exception {
+        final Path file = testDir.resolve(relative);
+        Files.createDirectories(file.getParent());
+        return Files.writeString(file, content);
+    }
+}
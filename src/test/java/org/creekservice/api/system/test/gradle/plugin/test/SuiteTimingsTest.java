@@ -0,0 +1,73 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.system.test.gradle.plugin.test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import java.nio.file.Path;
+import java.util.OptionalDouble;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class SuiteTimingsTest {
+
+    @TempDir private Path tempDir;
+
+    @Test
+    void shouldLoadEmptyIfNoFile() {
+        // When:
+        final SuiteTimings timings = SuiteTimings.load(tempDir.resolve("missing.properties"));
+
+        // Then:
+        assertThat(timings.estimate("a"), is(OptionalDouble.empty()));
+        assertThat(timings.averageEstimate(), is(OptionalDouble.empty()));
+    }
+
+    @Test
+    void shouldEstimateFromRecentDurations() {
+        // Given:
+        final SuiteTimings timings = SuiteTimings.load(tempDir.resolve("missing.properties"));
+
+        // When:
+        for (int i = 1; i <= 7; i++) {
+            timings.record("a", i);
+        }
+
+        // Then: mean of last five:
+        assertThat(timings.estimate("a"), is(OptionalDouble.of(5.0)));
+    }
+
+    @Test
+    void shouldRoundTrip() {
+        // Given:
+        final Path file = tempDir.resolve("dir/timings.properties");
+        final SuiteTimings timings = SuiteTimings.load(file);
+        timings.record("package/suite.yml", 2);
+        timings.record("package/suite.yml", 4);
+        timings.record("other.yml", 9);
+
+        // When:
+        timings.save(file);
+        final SuiteTimings loaded = SuiteTimings.load(file);
+
+        // Then:
+        assertThat(loaded.estimate("package/suite.yml"), is(OptionalDouble.of(3.0)));
+        assertThat(loaded.estimate("other.yml"), is(OptionalDouble.of(9.0)));
+        assertThat(loaded.averageEstimate(), is(OptionalDouble.of(6.0)));
+    }
+}
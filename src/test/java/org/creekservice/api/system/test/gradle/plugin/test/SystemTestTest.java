@@ -22,8 +22,10 @@ import static org.creekservice.api.system.test.gradle.plugin.TaskTestBase.Expect
 import static org.creekservice.api.test.hamcrest.PathMatchers.doesNotExist;
 import static org.creekservice.api.test.util.TestPaths.delete;
 import static org.gradle.testkit.runner.TaskOutcome.FAILED;
+import static org.gradle.testkit.runner.TaskOutcome.FROM_CACHE;
 import static org.gradle.testkit.runner.TaskOutcome.NO_SOURCE;
 import static org.gradle.testkit.runner.TaskOutcome.SUCCESS;
+import static org.gradle.testkit.runner.TaskOutcome.UP_TO_DATE;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.is;
@@ -238,6 +240,351 @@ class SystemTestTest extends TaskTestBase {
         assertThat(result.getOutput(), containsString("--debug-service-instance=<Not Set>"));
     }
 
+    @CartesianTest(name = "{displayName} flavour={0}, gradleVersion={1}")
+    @MethodFactory("flavoursAndVersions")
+    void shouldExecuteShardsInParallel(final String flavour, final String gradleVersion) {
+        // Given:
+        givenProject(flavour + "/sharded");
+
+        // When:
+        final BuildResult result = executeTask(ExpectedOutcome.PASS, gradleVersion);
+
+        // Then:
+        assertThat(result.task(TASK_NAME).getOutcome(), is(SUCCESS));
+        assertThat(result.getOutput(), containsString("Running 2 suite(s) in shard-1"));
+        assertThat(result.getOutput(), containsString("Running 1 suite(s) in shard-2"));
+        assertThat(
+                result.getOutput(),
+                containsString(
+                        "--include-suites="
+                                + Pattern.quote(Path.of("package-a", "suite.yml").toString())
+                                + "|"
+                                + Pattern.quote(Path.of("package-c", "suite.yml").toString())));
+        assertThat(
+                result.getOutput(),
+                containsString(
+                        "--include-suites="
+                                + Pattern.quote(Path.of("package-b", "suite.yml").toString())));
+        assertThat(
+                result.getOutput(),
+                containsString(
+                        "--result-directory="
+                                + projectPath("build/tmp/systemTest/shards/shard-2")));
+    }
+
+    @CartesianTest(name = "{displayName} flavour={0}, gradleVersion={1}")
+    @MethodFactory("flavoursAndVersions")
+    void shouldExecuteNodeShard(final String flavour, final String gradleVersion) {
+        // Given:
+        givenProject(flavour + "/default");
+
+        // When:
+        final BuildResult result = executeTask(ExpectedOutcome.PASS, gradleVersion, "--shard=1/1");
+
+        // Then:
+        assertThat(result.task(TASK_NAME).getOutcome(), is(SUCCESS));
+        assertThat(
+                result.getOutput(),
+                containsString(
+                        "--result-directory="
+                                + projectPath("build/test-results/system-test/shard-1-of-1")));
+        assertThat(
+                result.getOutput(),
+                containsString("--include-suites=" + Pattern.quote("suite.yml")));
+    }
+
+    @CartesianTest(name = "{displayName} flavour={0}, gradleVersion={1}")
+    @MethodFactory("flavoursAndVersions")
+    void shouldUseLowMemoryExecutorJvmByDefault(final String flavour, final String gradleVersion) {
+        // Given:
+        givenProject(flavour + "/default");
+
+        // When:
+        final BuildResult result = executeTask(ExpectedOutcome.PASS, gradleVersion, "--info");
+
+        // Then:
+        assertThat(result.task(TASK_NAME).getOutcome(), is(SUCCESS));
+        assertThat(
+                result.getOutput(),
+                containsString(
+                        "Executor JVM arguments: [-XX:+UseSerialGC, -XX:MinHeapFreeRatio=10,"
+                                + " -XX:MaxHeapFreeRatio=30]"));
+    }
+
+    @CartesianTest(name = "{displayName} flavour={0}, gradleVersion={1}")
+    @MethodFactory("flavoursAndVersions")
+    void shouldUseConfiguredExecutorJvm(final String flavour, final String gradleVersion) {
+        // Given:
+        givenProject(flavour + "/executor_jvm");
+
+        // When:
+        final BuildResult result = executeTask(ExpectedOutcome.PASS, gradleVersion, "--info");
+
+        // Then:
+        assertThat(result.task(TASK_NAME).getOutcome(), is(SUCCESS));
+        assertThat(
+                result.getOutput(),
+                containsString(
+                        "Executor JVM arguments: [-XX:+UseSerialGC, -XX:TieredStopAtLevel=1,"
+                                + " -Xshare:auto, -Xmx128m, -Dcreek.test=jvm-arg]"));
+    }
+
+    @CartesianTest(name = "{displayName} flavour={0}, gradleVersion={1}")
+    @MethodFactory("flavoursAndVersions")
+    void shouldOverrideExecutorJvmArgsFromCommandLine(
+            final String flavour, final String gradleVersion) {
+        // Given:
+        givenProject(flavour + "/executor_jvm");
+
+        // When:
+        final BuildResult result =
+                executeTask(
+                        ExpectedOutcome.PASS,
+                        gradleVersion,
+                        "--info",
+                        "--executor-jvm-arg=-Xss512k",
+                        "--executor-jvm-arg=-Xmx64m");
+
+        // Then:
+        assertThat(result.task(TASK_NAME).getOutcome(), is(SUCCESS));
+        assertThat(
+                result.getOutput(),
+                containsString(
+                        "Executor JVM arguments: [-XX:+UseSerialGC, -XX:TieredStopAtLevel=1,"
+                                + " -Xshare:auto, -Xmx128m, -Xss512k, -Xmx64m]"));
+    }
+
+    @CartesianTest(name = "{displayName} flavour={0}, gradleVersion={1}")
+    @MethodFactory("flavoursAndVersions")
+    void shouldExecuteInDaemon(final String flavour, final String gradleVersion) {
+        // Given:
+        givenProject(flavour + "/daemon");
+
+        // When:
+        final BuildResult result = executeTask(ExpectedOutcome.PASS, gradleVersion, "--info");
+
+        // Then:
+        assertThat(result.task(TASK_NAME).getOutcome(), is(SUCCESS));
+        assertThat(result.getOutput(), containsString("Starting system test executor daemon"));
+        assertThat(
+                result.getOutput(),
+                containsString("--test-directory=" + projectPath("src/system-test")));
+    }
+
+    @CartesianTest(name = "{displayName} flavour={0}, gradleVersion={1}")
+    @MethodFactory("flavoursAndVersions")
+    void shouldUseWarmDaemonOnNextRun(final String flavour, final String gradleVersion) {
+        // Given:
+        givenProject(flavour + "/daemon");
+        executeTask(ExpectedOutcome.PASS, gradleVersion);
+
+        // When:
+        final BuildResult result =
+                executeTask(ExpectedOutcome.PASS, gradleVersion, "--info", "--rerun-tasks");
+
+        // Then:
+        assertThat(result.task(TASK_NAME).getOutcome(), is(SUCCESS));
+        assertThat(result.getOutput(), containsString("Using warm system test executor daemon"));
+        assertThat(
+                result.getOutput(),
+                containsString("--test-directory=" + projectPath("src/system-test")));
+    }
+
+    @CartesianTest(name = "{displayName} flavour={0}, gradleVersion={1}")
+    @MethodFactory("flavoursAndVersions")
+    void shouldExecuteInWorker(final String flavour, final String gradleVersion) {
+        // Given:
+        givenProject(flavour + "/worker");
+
+        // When:
+        final BuildResult result = executeTask(ExpectedOutcome.PASS, gradleVersion);
+
+        // Then:
+        assertThat(result.task(TASK_NAME).getOutcome(), is(SUCCESS));
+        assertThat(
+                result.getOutput(),
+                containsString("--test-directory=" + projectPath("src/system-test")));
+    }
+
+    @CartesianTest(name = "{displayName} flavour={0}, gradleVersion={1}")
+    @MethodFactory("flavoursAndVersions")
+    void shouldExecuteInWorkerFromCommandLine(final String flavour, final String gradleVersion) {
+        // Given:
+        givenProject(flavour + "/default");
+
+        // When:
+        final BuildResult result =
+                executeTask(ExpectedOutcome.PASS, gradleVersion, "--execution-mode=WORKER");
+
+        // Then:
+        assertThat(result.task(TASK_NAME).getOutcome(), is(SUCCESS));
+        assertThat(
+                result.getOutput(),
+                containsString("--test-directory=" + projectPath("src/system-test")));
+    }
+
+    @CartesianTest(name = "{displayName} flavour={0}, gradleVersion={1}")
+    @MethodFactory("flavoursAndVersions")
+    void shouldNotRealizeTasksIfNotRequested(final String flavour, final String gradleVersion) {
+        // Given:
+        givenProject(flavour + "/lazy");
+
+        // When:
+        final BuildResult result = executeTask(":help", ExpectedOutcome.PASS, gradleVersion);
+
+        // Then:
+        assertThat(result.getOutput(), containsString("Realized task: help"));
+        assertThat(result.getOutput(), not(containsString("Realized task: systemTest")));
+    }
+
+    @CartesianTest(name = "{displayName} flavour={0}, gradleVersion={1}")
+    @MethodFactory("flavoursAndVersions")
+    void shouldReuseConfigurationCache(final String flavour, final String gradleVersion) {
+        // Given:
+        givenProject(flavour + "/default");
+        executeTask(ExpectedOutcome.PASS, gradleVersion, "--configuration-cache");
+
+        // When:
+        final BuildResult result =
+                executeTask(ExpectedOutcome.PASS, gradleVersion, "--configuration-cache");
+
+        // Then:
+        assertThat(result.getOutput(), containsString("Reusing configuration cache."));
+    }
+
+    @CartesianTest(name = "{displayName} flavour={0}, gradleVersion={1}")
+    @MethodFactory("flavoursAndVersions")
+    void shouldBeUpToDateIfNothingChanged(final String flavour, final String gradleVersion) {
+        // Given:
+        givenProject(flavour + "/explicit-component");
+        executeTask(ExpectedOutcome.PASS, gradleVersion);
+
+        // When:
+        final BuildResult result = executeTask(ExpectedOutcome.PASS, gradleVersion);
+
+        // Then:
+        assertThat(result.task(TASK_NAME).getOutcome(), is(UP_TO_DATE));
+    }
+
+    @CartesianTest(name = "{displayName} flavour={0}, gradleVersion={1}")
+    @MethodFactory("flavoursAndVersions")
+    void shouldLoadFromCacheIfNothingChanged(final String flavour, final String gradleVersion) {
+        // Given:
+        givenProject(flavour + "/explicit-component");
+        executeTask(ExpectedOutcome.PASS, gradleVersion, "--build-cache");
+        TestPaths.delete(projectPath("build/test-results"));
+
+        // When:
+        final BuildResult result =
+                executeTask(ExpectedOutcome.PASS, gradleVersion, "--build-cache");
+
+        // Then:
+        assertThat(result.task(TASK_NAME).getOutcome(), is(FROM_CACHE));
+    }
+
+    @CartesianTest(name = "{displayName} flavour={0}, gradleVersion={1}")
+    @MethodFactory("flavoursAndVersions")
+    void shouldBeUpToDateIfServiceImagesUnchanged(
+            final String flavour, final String gradleVersion) {
+        // Given:
+        givenServiceImages(flavour, "sha256:aaa", "sha256:bbb");
+        executeTask(ExpectedOutcome.PASS, gradleVersion);
+        givenServiceImages(flavour, "sha256:aaa", "sha256:bbb");
+
+        // When:
+        final BuildResult result = executeTask(ExpectedOutcome.PASS, gradleVersion);
+
+        // Then:
+        assertThat(result.task(TASK_NAME).getOutcome(), is(UP_TO_DATE));
+    }
+
+    @CartesianTest(name = "{displayName} flavour={0}, gradleVersion={1}")
+    @MethodFactory("flavoursAndVersions")
+    void shouldRerunIfServiceImageChanged(final String flavour, final String gradleVersion) {
+        // Given:
+        givenServiceImages(flavour, "sha256:aaa", "sha256:bbb");
+        executeTask(ExpectedOutcome.PASS, gradleVersion);
+        givenServiceImages(flavour, "sha256:aaa", "sha256:ccc");
+
+        // When:
+        final BuildResult result = executeTask(ExpectedOutcome.PASS, gradleVersion);
+
+        // Then:
+        assertThat(result.task(TASK_NAME).getOutcome(), is(SUCCESS));
+    }
+
+    @CartesianTest(name = "{displayName} flavour={0}, gradleVersion={1}")
+    @MethodFactory("flavoursAndVersions")
+    void shouldRerunIfServiceImageRemoved(final String flavour, final String gradleVersion) {
+        // Given:
+        givenServiceImages(flavour, "sha256:aaa", "sha256:bbb");
+        executeTask(ExpectedOutcome.PASS, gradleVersion);
+        TestPaths.delete(projectPath("image-ids/service-b"));
+
+        // When:
+        final BuildResult result = executeTask(ExpectedOutcome.PASS, gradleVersion);
+
+        // Then:
+        assertThat(result.task(TASK_NAME).getOutcome(), is(SUCCESS));
+    }
+
+    @CartesianTest(name = "{displayName} flavour={0}, gradleVersion={1}")
+    @MethodFactory("flavoursAndVersions")
+    void shouldRunSuitesWithoutEarlierResultsIncrementally(
+            final String flavour, final String gradleVersion) {
+        // Given:
+        givenProject(flavour + "/default");
+
+        // When:
+        final BuildResult result =
+                executeTask(ExpectedOutcome.PASS, gradleVersion, "--incremental");
+
+        // Then:
+        assertThat(result.task(TASK_NAME).getOutcome(), is(SUCCESS));
+        assertThat(
+                result.getOutput(),
+                containsString(
+                        "--result-directory=" + projectPath("build/tmp/systemTest/incremental")));
+        assertThat(
+                result.getOutput(),
+                containsString("--include-suites=" + Pattern.quote("suite.yml")));
+        assertThat(
+                "fingerprints stored",
+                Files.isRegularFile(
+                        projectPath("build/creek/state/systemTest/suite-fingerprints.properties")));
+    }
+
+    @CartesianTest(name = "{displayName} flavour={0}, gradleVersion={1}")
+    @MethodFactory("flavoursAndVersions")
+    void shouldNameCoverageFilesAfterNodeShard(final String flavour, final String gradleVersion) {
+        // Given:
+        givenProject(flavour + "/with_jacoco");
+
+        // When:
+        final BuildResult result = executeTask(ExpectedOutcome.PASS, gradleVersion, "--shard=1/1");
+
+        // Then:
+        assertThat(result.task(TASK_NAME).getOutcome(), is(SUCCESS));
+        assertThat(
+                result.getOutput(),
+                containsString(
+                        "destfile=/opt/creek/mounts/coverage/${SERVICE_INSTANCE_NAME}-shard-1-of-1.exec"));
+    }
+
+    @CartesianTest(name = "{displayName} flavour={0}, gradleVersion={1}")
+    @MethodFactory("flavoursAndVersions")
+    void shouldFailOnInvalidShard(final String flavour, final String gradleVersion) {
+        // Given:
+        givenProject(flavour + "/default");
+
+        // When:
+        final BuildResult result = executeTask(FAIL, gradleVersion, "--shard=3/2");
+
+        // Then:
+        assertThat(result.task(TASK_NAME).getOutcome(), is(FAILED));
+        assertThat(result.getOutput(), containsString("Invalid shard: '3/2'"));
+    }
+
     @CartesianTest(name = "{displayName} flavour={0}, gradleVersion={1}")
     @MethodFactory("flavoursAndVersions")
     void shouldExecuteWithDebugServices(final String flavour, final String gradleVersion) {
@@ -576,8 +923,6 @@ class SystemTestTest extends TaskTestBase {
             final String flavour, final String gradleVersion) throws Exception {
         // Given:
         givenProject(flavour + "/jacoco_report");
-        final Path coverageDir = givenDirectory("build/creek/mounts/coverage");
-        Files.writeString(coverageDir.resolve("service-a.exec"), "");
 
         // When:
         final BuildResult result =
@@ -586,8 +931,7 @@ class SystemTestTest extends TaskTestBase {
         // Then:
         assertThat(
                 result.getOutput(),
-                containsString(
-                        projectPath("build/creek/mounts/coverage/service-a.exec").toString()));
+                containsString(projectPath("build/creek/coverage/systemTest.exec").toString()));
     }
 
     @CartesianTest(name = "{displayName} flavour={0}, gradleVersion={1}")
@@ -596,8 +940,6 @@ class SystemTestTest extends TaskTestBase {
             final String flavour, final String gradleVersion) throws Exception {
         // Given:
         givenProject(flavour + "/jacoco_report");
-        final Path subCoverageDir = givenDirectory("sub-project/build/creek/mounts/coverage");
-        Files.writeString(subCoverageDir.resolve("service-b.exec"), "");
 
         // When:
         final BuildResult result =
@@ -607,7 +949,7 @@ class SystemTestTest extends TaskTestBase {
         assertThat(
                 result.getOutput(),
                 containsString(
-                        projectPath("sub-project/build/creek/mounts/coverage/service-b.exec")
+                        projectPath("sub-project/build/creek/coverage/systemTest.exec")
                                 .toString()));
     }
 
@@ -615,25 +957,30 @@ class SystemTestTest extends TaskTestBase {
     @MethodFactory("flavoursAndVersions")
     void shouldAddSystemTestExecutionDataToNonSystemTestSubprojectJacocoReport(
             final String flavour, final String gradleVersion) throws Exception {
-        // Given: service-module only has java+jacoco, not org.creekservice.system.test
+        // Given: service-module only has java+jacoco, not org.creekservice.system.test,
+        // and consumes the system-test subproject's systemTestCoverageElements
         givenProject(flavour + "/jacoco_report");
-        // Coverage exec files generated by system tests (which run in sub-project or root)
-        final Path subCoverageDir = givenDirectory("sub-project/build/creek/mounts/coverage");
-        Files.writeString(subCoverageDir.resolve("service-c.exec"), "");
 
         // When: asking for the service module's JacocoReport execution data
         final BuildResult result =
                 executeTask(
                         ":service-module:printExecutionData", ExpectedOutcome.PASS, gradleVersion);
 
-        // Then: service module report includes exec files from the system-test subproject
+        // Then: service module report includes merged exec file from the system-test subproject
         assertThat(
                 result.getOutput(),
                 containsString(
-                        projectPath("sub-project/build/creek/mounts/coverage/service-c.exec")
+                        projectPath("sub-project/build/creek/coverage/systemTest.exec")
                                 .toString()));
     }
 
+    private void givenServiceImages(final String flavour, final String idA, final String idB) {
+        givenProject(flavour + "/service_images");
+        assertThat(projectPath("fake-docker").toFile().setExecutable(true), is(true));
+        TestPaths.write(projectPath("image-ids/service-a"), idA);
+        TestPaths.write(projectPath("image-ids/service-b"), idB);
+    }
+
     private void givenTestSuite() {
         givenDirectory("src/system-test");
         TestPaths.write(projectPath("src/system-test/test-suite.yml"), "");
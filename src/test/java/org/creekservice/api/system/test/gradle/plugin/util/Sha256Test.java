@@ -0,0 +1,97 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.system.test.gradle.plugin.util;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class Sha256Test {
+
+    @TempDir private Path dir;
+
+    @Test
+    void shouldHashKnownValue() {
+        assertThat(
+                Sha256.create().add("").hex(),
+                is("6e340b9cffb37a989ca544e6bb780a2c78901d3fb33738768511a30617afa01d"));
+    }
+
+    @Test
+    void shouldSeparateValues() {
+        assertThat(
+                Sha256.create().add("ab").add("c").hex(),
+                is(not(Sha256.create().add("a").add("bc").hex())));
+    }
+
+    @Test
+    void shouldTruncateHash() {
+        // When:
+        final String hex = Sha256.create().add("a").hex(8);
+
+        // Then:
+        assertThat(hex.length(), is(16));
+        assertThat(Sha256.create().add("a").hex().startsWith(hex), is(true));
+    }
+
+    @Test
+    void shouldHashContent() throws Exception {
+        // Given:
+        final Path a = Files.writeString(dir.resolve("a"), "content");
+        final Path b = Files.writeString(dir.resolve("b"), "content");
+        final Path c = Files.writeString(dir.resolve("c"), "other");
+
+        // Then:
+        assertThat(
+                Sha256.create().addContent(a).hex(), is(Sha256.create().addContent(b).hex()));
+        assertThat(
+                Sha256.create().addContent(a).hex(),
+                is(not(Sha256.create().addContent(c).hex())));
+    }
+
+    @Test
+    void shouldChangeAttributesHashIfFileModified() throws Exception {
+        // Given:
+        final Path file = Files.writeString(dir.resolve("a.jar"), "content");
+        Files.setLastModifiedTime(file, FileTime.from(Instant.ofEpochSecond(1000)));
+        final String before = Sha256.create().addAttributes(dir).hex();
+
+        // When:
+        Files.setLastModifiedTime(file, FileTime.from(Instant.ofEpochSecond(2000)));
+
+        // Then:
+        assertThat(Sha256.create().addAttributes(dir).hex(), is(not(before)));
+    }
+
+    @Test
+    void shouldHashAttributesOfMissingFile() {
+        // Given:
+        final Path missing = dir.resolve("missing.jar");
+
+        // Then:
+        assertThat(
+                Sha256.create().addAttributes(missing).hex(),
+                is(Sha256.create().add(missing.toAbsolutePath().toString()).hex()));
+    }
+}
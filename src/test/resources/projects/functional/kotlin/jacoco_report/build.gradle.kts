@@ -22,6 +22,10 @@ plugins {
     jacoco
 }
 
+dependencies {
+    systemTestCoverage(project(":sub-project"))
+}
+
 val jacocoReport = tasks.named<JacocoReport>("jacocoTestReport")
 
 tasks.register("printExecutionData") {
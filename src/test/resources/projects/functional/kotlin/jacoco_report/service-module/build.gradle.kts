@@ -21,6 +21,23 @@ plugins {
     jacoco
 }
 
+val systemTestCoverage by configurations.creating {
+    isCanBeConsumed = false
+    isTransitive = false
+    attributes {
+        attribute(Category.CATEGORY_ATTRIBUTE, objects.named("verification"))
+        attribute(Usage.USAGE_ATTRIBUTE, objects.named("creek-system-test-coverage"))
+    }
+}
+
+dependencies {
+    systemTestCoverage(project(":sub-project"))
+}
+
+tasks.withType<JacocoReport>().configureEach {
+    executionData(systemTestCoverage)
+}
+
 val jacocoReport = tasks.named<JacocoReport>("jacocoTestReport")
 
 tasks.register("printExecutionData") {